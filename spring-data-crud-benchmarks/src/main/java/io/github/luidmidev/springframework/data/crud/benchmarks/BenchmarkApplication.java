@@ -0,0 +1,7 @@
+package io.github.luidmidev.springframework.data.crud.benchmarks;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class BenchmarkApplication {
+}
@@ -0,0 +1,66 @@
+package io.github.luidmidev.springframework.data.crud.benchmarks;
+
+import io.github.luidmidev.springframework.data.crud.benchmarks.models.Foo;
+import io.github.luidmidev.springframework.data.crud.benchmarks.repositories.FooRepository;
+import io.github.luidmidev.springframework.data.crud.benchmarks.services.FooService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Spring context shared by the benchmarks of a trial, with an H2 database seeded with {@link #rows} foos. The data
+ * is generated from a fixed seed, so every run queries the same rows.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+    static final long SEED = 42;
+
+    static final String[] WORDS = {"alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel"};
+
+    @Param("10000")
+    public int rows;
+
+    ConfigurableApplicationContext context;
+    FooService service;
+    FooRepository repository;
+    List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = SpringApplication.run(BenchmarkApplication.class);
+        service = context.getBean(FooService.class);
+        repository = context.getBean(FooRepository.class);
+
+        var random = new Random(SEED);
+        var foos = new ArrayList<Foo>(rows);
+        for (var i = 0; i < rows; i++) {
+            var foo = new Foo();
+            foo.setName(WORDS[random.nextInt(WORDS.length)] + " " + i);
+            foo.setDescription(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]);
+            foo.setEmail("foo" + i + "@example.com");
+            foo.setDate(LocalDate.of(2020, 1, 1).plusDays(random.nextInt(1500)));
+            foos.add(foo);
+        }
+        ids = repository.saveAll(foos).stream().map(Foo::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.luidmidev.springframework.data.crud.benchmarks;
+
+import io.github.luidmidev.springframework.data.crud.core.web.export.StreamingExporter;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Minimal CSV exporter of the given properties of each element, as a typical {@link StreamingExporter}.
+ */
+class CsvExporter implements StreamingExporter<List<String>> {
+
+    @Override
+    public String getFilename(List<String> fields) {
+        return "export.csv";
+    }
+
+    @Override
+    public MediaType getMediaType(List<String> fields) {
+        return MediaType.parseMediaType("text/csv");
+    }
+
+    @Override
+    public void export(Stream<?> elements, List<String> fields, OutputStream output) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(String.join(",", fields));
+        writer.newLine();
+
+        var iterator = elements.iterator();
+        while (iterator.hasNext()) {
+            var wrapper = new BeanWrapperImpl(iterator.next());
+            for (var i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                var value = wrapper.getPropertyValue(fields.get(i));
+                if (value != null) {
+                    writer.write(value.toString().replace("\"", "\"\""));
+                }
+            }
+            writer.newLine();
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.luidmidev.springframework.data.crud.benchmarks;
+
+import io.github.luidmidev.springframework.data.crud.core.web.export.Exporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Export of a page of foos, buffered in memory as the {@code ExportController} does, and of every foo streamed from
+ * a cursor as the {@code StreamingExportController} does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class ExporterBenchmark {
+
+    static final List<String> FIELDS = List.of("id", "name", "description", "email", "date");
+
+    @Param("1000")
+    public int pageSize;
+
+    final CsvExporter exporter = new CsvExporter();
+
+    @Benchmark
+    public Exporter.ExportResource exportPage(BenchmarkContext context) {
+        var page = context.service.page(null, PageRequest.of(0, pageSize, Sort.by("id")), null);
+        return exporter.export(page, FIELDS);
+    }
+
+    @Benchmark
+    public void exportStream(BenchmarkContext context, Blackhole blackhole) {
+        var output = new CountingOutputStream();
+        context.service.stream(null, Sort.by("id"), null, stream -> {
+            try {
+                exporter.export(stream, FIELDS, output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        blackhole.consume(output.count);
+    }
+
+    static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.luidmidev.springframework.data.crud.benchmarks;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.benchmarks.models.Foo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read operations of {@code ReadService}: the three kinds of page, find by id and by ids, and count.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class ReadServiceBenchmark {
+
+    static final int PAGE_SIZE = 20;
+    static final int FIND_MANY_SIZE = 100;
+
+    Random random;
+    Node rsql;
+    List<Long> many;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkContext context) {
+        random = new Random(BenchmarkContext.SEED);
+        rsql = new RSQLParser().parse("date=ge=2022-01-01;name==alpha*");
+
+        var ids = new ArrayList<>(context.ids);
+        Collections.shuffle(ids, new Random(BenchmarkContext.SEED));
+        many = List.copyOf(ids.subList(0, Math.min(FIND_MANY_SIZE, ids.size())));
+    }
+
+    @Benchmark
+    public Page<Foo> pagePlain(BenchmarkContext context) {
+        var pages = context.rows / PAGE_SIZE;
+        return context.service.page(null, PageRequest.of(random.nextInt(pages), PAGE_SIZE, Sort.by("name")), null);
+    }
+
+    @Benchmark
+    public Page<Foo> pageSearch(BenchmarkContext context) {
+        var word = BenchmarkContext.WORDS[random.nextInt(BenchmarkContext.WORDS.length)];
+        return context.service.page(word, PageRequest.of(0, PAGE_SIZE), null);
+    }
+
+    @Benchmark
+    public Page<Foo> pageRsql(BenchmarkContext context) {
+        return context.service.page(null, PageRequest.of(0, PAGE_SIZE), rsql);
+    }
+
+    @Benchmark
+    public Foo find(BenchmarkContext context) {
+        return context.service.find(context.ids.get(random.nextInt(context.ids.size())));
+    }
+
+    @Benchmark
+    public List<Foo> findMany(BenchmarkContext context) {
+        return context.service.find(many);
+    }
+
+    @Benchmark
+    public long count(BenchmarkContext context) {
+        return context.service.count(null, null);
+    }
+
+    @Benchmark
+    public long countRsql(BenchmarkContext context) {
+        return context.service.count(null, rsql);
+    }
+}
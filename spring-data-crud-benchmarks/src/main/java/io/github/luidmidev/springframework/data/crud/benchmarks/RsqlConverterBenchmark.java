@@ -0,0 +1,67 @@
+package io.github.luidmidev.springframework.data.crud.benchmarks;
+
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.autoconfigurations.SpringDataCrudAutoConfiguration;
+import io.github.luidmidev.springframework.data.crud.core.rsql.RsqlNodeCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.convert.converter.Converter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of the {@code query} request parameter to an RSQL {@link Node}, with and without the parsed query cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RsqlConverterBenchmark {
+
+    static final String[] QUERIES = {
+            "name==alpha",
+            "name==alpha*;date=ge=2022-01-01",
+            "email=in=(foo1@example.com,foo2@example.com,foo3@example.com)",
+            "(name==bravo,name==charlie);date=lt=2023-06-30",
+            "description==*delta*;id=gt=100;id=lt=5000",
+            "name!=echo;(date=ge=2021-01-01,date=le=2020-06-01)",
+            "id=out=(1,2,3,4,5,6,7,8,9,10)",
+            "name==\"golf 1\",name==\"hotel 2\""
+    };
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    Converter<String, Node> converter;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var beanFactory = new StaticListableBeanFactory();
+        if (cached) {
+            beanFactory.addBean("rsqlNodeCache", new RsqlNodeCache(256, Duration.ofMinutes(10)));
+        }
+        converter = new SpringDataCrudAutoConfiguration().rsqlQueryConverter(beanFactory.getBeanProvider(RsqlNodeCache.class));
+    }
+
+    @Benchmark
+    public Node convert() {
+        var query = QUERIES[next];
+        next = (next + 1) % QUERIES.length;
+        return converter.convert(query);
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.luidmidev.springframework.data.crud.benchmarks;
+
+import io.github.luidmidev.springframework.data.crud.benchmarks.dto.FooDto;
+import io.github.luidmidev.springframework.data.crud.benchmarks.models.Foo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write operations of {@code WriteService}. Created foos are removed after each iteration, and deleted foos come from
+ * a pool inserted before each iteration, so the table stays close to the size of the seed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class WriteServiceBenchmark {
+
+    Random random;
+    FooDto dto;
+    List<Long> created;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new Random(BenchmarkContext.SEED);
+        dto = new FooDto("benchmark", "written by the benchmark", "benchmark@example.com", LocalDate.of(2024, 1, 1));
+        created = new ArrayList<>();
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeCreated(BenchmarkContext context) {
+        context.repository.deleteAllByIdInBatch(created);
+        created.clear();
+    }
+
+    @Benchmark
+    public Foo create(BenchmarkContext context) {
+        var foo = context.service.create(dto);
+        created.add(foo.getId());
+        return foo;
+    }
+
+    @Benchmark
+    public Foo update(BenchmarkContext context) {
+        return context.service.update(context.ids.get(random.nextInt(context.ids.size())), dto);
+    }
+
+    @Benchmark
+    public void delete(BenchmarkContext context, Deletable deletable) {
+        context.service.delete(deletable.next(context));
+    }
+
+    /**
+     * Foos inserted before each iteration of {@link #delete}, which consumes one per invocation; only that benchmark
+     * pays for the inserts, which are not measured. Inserting per invocation instead would add a timestamp and setup
+     * call to every delete of a microsecond-scale benchmark. The unused foos are removed after the iteration; if an
+     * iteration consumes the whole pool, it is refilled inline, and that refill is measured.
+     */
+    @State(Scope.Thread)
+    public static class Deletable {
+
+        static final int POOL_SIZE = 20_000;
+
+        final Deque<Long> pool = new ArrayDeque<>(POOL_SIZE);
+
+        @Setup(Level.Iteration)
+        public void insert(BenchmarkContext context) {
+            refill(context);
+        }
+
+        @TearDown(Level.Iteration)
+        public void removeUnused(BenchmarkContext context) {
+            context.repository.deleteAllByIdInBatch(pool);
+            pool.clear();
+        }
+
+        Long next(BenchmarkContext context) {
+            if (pool.isEmpty()) {
+                refill(context);
+            }
+            return pool.pop();
+        }
+
+        private void refill(BenchmarkContext context) {
+            var foos = new ArrayList<Foo>(POOL_SIZE);
+            for (var i = 0; i < POOL_SIZE; i++) {
+                var foo = new Foo();
+                foo.setName("deletable");
+                foo.setDate(LocalDate.of(2024, 1, 1));
+                foos.add(foo);
+            }
+            context.repository.saveAll(foos).forEach(foo -> pool.add(foo.getId()));
+        }
+    }
+}
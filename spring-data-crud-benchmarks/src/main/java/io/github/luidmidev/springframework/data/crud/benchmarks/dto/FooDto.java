@@ -0,0 +1,25 @@
+package io.github.luidmidev.springframework.data.crud.benchmarks.dto;
+
+import io.github.luidmidev.springframework.data.crud.benchmarks.models.Foo;
+import io.github.luidmidev.springframework.data.crud.core.mapping.CrudMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@CrudMapper(entity = Foo.class)
+public class FooDto {
+
+    private String name;
+
+    private String description;
+
+    private String email;
+
+    private LocalDate date;
+
+}
@@ -0,0 +1,7 @@
+package io.github.luidmidev.springframework.data.crud.benchmarks.repositories;
+
+import io.github.luidmidev.springframework.data.crud.benchmarks.models.Foo;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FooRepository extends JpaRepository<Foo, Long> {
+}
@@ -0,0 +1,39 @@
+package io.github.luidmidev.springframework.data.crud.benchmarks.services;
+
+import io.github.luidmidev.springframework.data.crud.benchmarks.dto.FooDto;
+import io.github.luidmidev.springframework.data.crud.benchmarks.dto.FooDtoMapper;
+import io.github.luidmidev.springframework.data.crud.benchmarks.models.Foo;
+import io.github.luidmidev.springframework.data.crud.benchmarks.repositories.FooRepository;
+import io.github.luidmidev.springframework.data.crud.jpa.JpaCrudService;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+@Service
+@Getter
+@RequiredArgsConstructor
+public class FooService implements JpaCrudService<Foo, FooDto, Long, FooRepository> {
+
+    private final FooRepository repository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionOperations;
+
+    @Override
+    public void mapModel(FooDto dto, Foo model) {
+        FooDtoMapper.mapModel(dto, model);
+    }
+
+    @Override
+    public void patchModel(FooDto dto, Foo model, Set<String> fields) {
+        FooDtoMapper.patchModel(dto, model, fields);
+    }
+
+    @Override
+    public Class<Foo> getEntityClass() {
+        return Foo.class;
+    }
+}
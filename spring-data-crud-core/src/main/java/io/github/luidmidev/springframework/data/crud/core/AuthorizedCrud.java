@@ -1,9 +1,21 @@
 package io.github.luidmidev.springframework.data.crud.core;
 
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.cache.AuthorizationDecisionCache;
+import io.github.luidmidev.springframework.data.crud.core.cache.FindBatcher;
+import org.springframework.data.domain.Persistable;
 import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
 public interface AuthorizedCrud {
 
     AuthorizationDecision GRANTED = new AuthorizationDecision(true);
@@ -15,9 +27,68 @@ public interface AuthorizedCrud {
         return PERMIT_ALL;
     }
 
+    /**
+     * Cache of the decisions of the authorization manager, keyed by the authentication, the service instance and the
+     * operation. Returns {@code null} by default, which checks the access on every operation.
+     */
+    default AuthorizationDecisionCache getAuthorizationDecisionCache() {
+        return null;
+    }
+
+    /**
+     * RSQL condition that restricts the rows the authentication can read with the operation. It is added to the
+     * query of the operation, so the rows it excludes are neither loaded nor counted. Updates and deletes load their
+     * entity with both the {@link CrudOperation#FIND FIND} condition and their own, so they only change rows the
+     * authentication can read and change. Returns {@code null} by default, which does not restrict the rows.
+     *
+     * @param authentication the authentication of the request, or {@code null} if there is none
+     * @param operation      the operation
+     * @return the condition, or {@code null} to read every row
+     */
+    default Node getRowFilter(Authentication authentication, CrudOperation operation) {
+        return null;
+    }
+
+    static Node rowFilter(AuthorizedCrud authorizedCrud, CrudOperation operation) {
+        var context = SecurityContextHolder.getContext();
+        return authorizedCrud.getRowFilter(context.getAuthentication(), operation);
+    }
+
     static void verifyAccess(AuthorizedCrud authorizedCrud, final CrudOperation operation) {
+        var context = SecurityContextHolder.getContext();
+        verifyAccess(authorizedCrud, context.getAuthentication(), operation);
+    }
+
+    static void verifyAccess(AuthorizedCrud authorizedCrud, Authentication authentication, final CrudOperation operation) {
         var authorizationManager = authorizedCrud.getAuthorizationManager();
+        var cache = authorizedCrud.getAuthorizationDecisionCache();
+        if (cache == null || authorizationManager == PERMIT_ALL) {
+            authorizationManager.verify(() -> authentication, operation);
+            return;
+        }
+
+        var result = cache.get(authentication, authorizedCrud, operation, cached -> authorizationManager.authorize(() -> cached, operation));
+        if (result != null && !result.isGranted()) {
+            throw new AuthorizationDeniedException("Access Denied", result);
+        }
+    }
+
+    static Executor propagateSecurityContext(Executor executor) {
+        return new DelegatingSecurityContextExecutor(executor);
+    }
+
+    /**
+     * Looks up the entity in a batch shared only with the lookups of the same authentication, and loads the batch with
+     * the security context of the caller that started it, so the row filters see the same authentication as a
+     * lookup without batching.
+     */
+    static <E extends Persistable<ID>, ID> E batchedFind(FindBatcher<E, ID> batcher, ID id, Function<List<ID>, List<E>> loader) {
         var context = SecurityContextHolder.getContext();
-        authorizationManager.verify(context::getAuthentication, operation);
+        var executor = new DelegatingSecurityContextExecutor(Runnable::run, context);
+        return batcher.find(id, context.getAuthentication(), ids -> {
+            var entities = new AtomicReference<List<E>>();
+            executor.execute(() -> entities.set(loader.apply(ids)));
+            return entities.get();
+        });
     }
 }
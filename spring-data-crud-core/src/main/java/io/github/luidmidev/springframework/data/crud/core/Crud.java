@@ -1,13 +1,39 @@
 package io.github.luidmidev.springframework.data.crud.core;
 
+import io.github.luidmidev.springframework.data.crud.core.cache.FindBatcher;
+import io.github.luidmidev.springframework.data.crud.core.metrics.CrudMetrics;
+import io.github.luidmidev.springframework.data.crud.core.metrics.CrudSample;
+import org.springframework.data.domain.Persistable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public sealed interface Crud permits WriteService, ReadService, CrudService {
 
-    static void preProccess(Crud crud, CrudOperation operation) {
+    static CrudSample preProccess(Crud crud, CrudOperation operation) {
+        var sample = CrudMetrics.start(crud, operation);
         if (crud instanceof AuthorizedCrud authorizedCrud) {
-            AuthorizedCrud.verifyAccess(authorizedCrud, operation);
+            sample.authorization(() -> AuthorizedCrud.verifyAccess(authorizedCrud, operation));
         }
         // Aqui se van a agregar operaciones adicionales que deben invocarse
         // inmediatamente antes de ejecutar la operación CRUD.
+        return sample;
+    }
+
+    static <T> CompletableFuture<T> supplyAsync(Crud crud, Executor executor, Supplier<T> operation) {
+        if (crud instanceof AuthorizedCrud) {
+            executor = AuthorizedCrud.propagateSecurityContext(executor);
+        }
+        return CompletableFuture.supplyAsync(operation, executor);
+    }
+
+    static <E extends Persistable<ID>, ID> E batchedFind(Crud crud, FindBatcher<E, ID> batcher, ID id, Function<List<ID>, List<E>> loader) {
+        if (crud instanceof AuthorizedCrud) {
+            return AuthorizedCrud.batchedFind(batcher, id, loader);
+        }
+        return batcher.find(id, loader);
     }
 }
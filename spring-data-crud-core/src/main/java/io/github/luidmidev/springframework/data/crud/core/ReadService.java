@@ -2,74 +2,260 @@ package io.github.luidmidev.springframework.data.crud.core;
 
 
 import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.cache.FindBatcher;
 import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
 import io.github.luidmidev.springframework.data.crud.core.hooks.ReadHooks;
+import io.github.luidmidev.springframework.data.crud.core.providers.AsyncExecutorProvider;
+import io.github.luidmidev.springframework.data.crud.core.providers.EntityCacheProvider;
+import io.github.luidmidev.springframework.data.crud.core.providers.TransactionOperationsProvider;
+import io.github.luidmidev.springframework.data.crud.core.utils.ProjectionUtils;
+import io.github.luidmidev.springframework.data.crud.core.utils.ScrollPositionUtils;
 import io.github.luidmidev.springframework.data.crud.core.utils.StringUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 @Validated
-public non-sealed interface ReadService<E extends Persistable<ID>, ID> extends Crud {
+public non-sealed interface ReadService<E extends Persistable<ID>, ID> extends
+        Crud,
+        EntityCacheProvider<E, ID>,
+        AsyncExecutorProvider,
+        TransactionOperationsProvider {
 
     default ReadHooks<E, ID> getHooks() {
         return ReadHooks.getDefault();
     }
 
     default Page<E> page(String search, Pageable pageable, Node query) {
-        Crud.preProccess(this, CrudOperation.PAGE);
+        var sample = Crud.preProccess(this, CrudOperation.PAGE);
+
+        return sample.record(() -> {
+            var normalized = StringUtils.normalize(search);
+            sample.context(normalized, query, pageable);
+            var page = sample.query(() -> resolvePage(normalized, pageable, query));
+            var hooks = getHooks();
+
+            sample.hooks(() -> hooks.onPage(page));
+            sample.resultSize(page.getNumberOfElements());
+            return page;
+        });
+    }
+
+    /**
+     * Reads a page of projections of the entities with only the given fields, which must be
+     * {@link #getProjectableFields() projectable}. The read hooks are not called, since no entity is loaded, so
+     * projectable fields must not need to be masked by them.
+     *
+     * @throws IllegalArgumentException if a field is not projectable
+     */
+    default Page<Map<String, Object>> page(String search, Pageable pageable, Node query, List<String> fields) {
+        var sample = Crud.preProccess(this, CrudOperation.PAGE);
+        ProjectionUtils.verifyProjectable(fields, getProjectableFields());
+
+        return sample.record(() -> {
+            var normalized = StringUtils.normalize(search);
+            sample.context(normalized, query, pageable);
+            var page = sample.query(() -> internalPage(normalized, pageable, query, fields));
+
+            sample.resultSize(page.getNumberOfElements());
+            return page;
+        });
+    }
+
+    default Slice<E> slice(String search, Pageable pageable, Node query) {
+        var sample = Crud.preProccess(this, CrudOperation.PAGE);
+
+        return sample.record(() -> {
+            var normalized = StringUtils.normalize(search);
+            sample.context(normalized, query, pageable);
+            var slice = sample.query(() -> resolveSlice(normalized, pageable, query));
+            var hooks = getHooks();
+
+            sample.hooks(() -> hooks.onSlice(slice));
+            sample.resultSize(slice.getNumberOfElements());
+            return slice;
+        });
+    }
+
+    default Window<E> scroll(String search, ScrollPosition position, Sort sort, int limit, Node query) {
+        var sample = Crud.preProccess(this, CrudOperation.PAGE);
 
-        var normalized = StringUtils.normalize(search);
-        var page = resolvePage(normalized, pageable, query);
-        var hooks = getHooks();
+        return sample.record(() -> {
+            var normalized = StringUtils.normalize(search);
+            sample.context(normalized, query, sort);
+            var window = sample.query(() -> resolveScroll(normalized, position, sort, limit, query));
+            var hooks = getHooks();
 
-        hooks.onPage(page);
-        return page;
+            sample.hooks(() -> hooks.onScroll(window));
+            sample.resultSize(window.size());
+            return window;
+        });
     }
 
+    default void stream(String search, Sort sort, Node query, Consumer<Stream<E>> action) {
+        var sample = Crud.preProccess(this, CrudOperation.PAGE);
+
+        sample.record(() -> {
+            var normalized = StringUtils.normalize(search);
+            sample.context(normalized, query, sort);
+            var transactionOperations = getTransactionOperations();
+
+            transactionOperations.executeWithoutResult(status -> {
+                try (var stream = sample.query(() -> resolveStream(normalized, sort, query))) {
+                    action.accept(stream);
+                }
+            });
+        });
+    }
 
     default E find(ID id) {
-        Crud.preProccess(this, CrudOperation.FIND);
+        var sample = Crud.preProccess(this, CrudOperation.FIND);
 
-        var model = internalFind(id);
-        var hooks = getHooks();
+        return sample.record(() -> {
+            var model = sample.query(() -> resolveFind(id));
+            var hooks = getHooks();
 
-        hooks.onFind(model);
-        return model;
+            sample.hooks(() -> hooks.onFind(model));
+            return model;
+        });
+    }
+
+    /**
+     * Reads a projection of the entity with only the given fields, as {@link #page(String, Pageable, Node, List)}.
+     *
+     * @throws IllegalArgumentException if a field is not projectable
+     */
+    default Map<String, Object> find(ID id, List<String> fields) {
+        var sample = Crud.preProccess(this, CrudOperation.FIND);
+        ProjectionUtils.verifyProjectable(fields, getProjectableFields());
+
+        return sample.record(() -> sample.query(() -> internalFind(id, fields)));
     }
 
     default List<E> find(List<ID> ids) {
-        Crud.preProccess(this, CrudOperation.FIND);
+        var sample = Crud.preProccess(this, CrudOperation.FIND);
 
-        var list = internalFind(ids);
-        var hooks = getHooks();
+        return sample.record(() -> {
+            var list = sample.query(() -> resolveFind(ids));
+            var hooks = getHooks();
 
-        hooks.onFind(list, ids);
-        return list;
+            sample.hooks(() -> hooks.onFind(list, ids));
+            sample.resultSize(list.size());
+            return list;
+        });
     }
 
     default long count(String search, Node query) {
-        Crud.preProccess(this, CrudOperation.COUNT);
+        var sample = Crud.preProccess(this, CrudOperation.COUNT);
 
-        var count = resolveCount(search, query);
-        var hooks = getHooks();
+        return sample.record(() -> {
+            sample.context(search, query, Sort.unsorted());
+            var count = sample.query(() -> resolveCount(search, query));
+            var hooks = getHooks();
 
-        hooks.onCount(count);
-        return count;
+            sample.hooks(() -> hooks.onCount(count));
+            return count;
+        });
     }
 
     default boolean exists(ID id) {
-        Crud.preProccess(this, CrudOperation.EXISTS);
+        var sample = Crud.preProccess(this, CrudOperation.EXISTS);
+
+        return sample.record(() -> {
+            var exists = sample.query(() -> resolveExists(id));
+            var hooks = getHooks();
+
+            sample.hooks(() -> hooks.onExists(exists, id));
+            return exists;
+        });
+    }
+
+    /**
+     * Fields that can be selected by the projections of {@code page} and {@code find}, as dot separated paths (e.g.
+     * {@code address.city}). Projections are read straight from the database into maps, so neither the serialization
+     * settings of the entity (e.g. {@code @JsonIgnore}) nor the read hooks apply to them; only fields that are safe to
+     * expose as they are stored should be listed. Returns the empty set by default, so projections are disabled.
+     */
+    default Set<String> getProjectableFields() {
+        return Set.of();
+    }
+
+    /**
+     * Maximum number of ids in a single query of {@code find(List)}. It must be below the bind parameter limit of
+     * the database, and is best a power of two.
+     */
+    default int getMultiGetChunkSize() {
+        return 512;
+    }
+
+    /**
+     * Executor used to run the chunks of {@code find(List)} concurrently, or {@code null} to run them one after
+     * another. Concurrent chunks run outside of the transaction of the caller, so the entities are not managed by it.
+     */
+    default Executor getMultiGetExecutor() {
+        return null;
+    }
 
-        var exists = internalExists(id);
-        var hooks = getHooks();
+    /**
+     * Batcher that coalesces concurrent {@code find(ID)} calls into {@code find(List)} queries, or {@code null} to
+     * query each id on its own. Calls made while a session or a transaction is bound to the thread are never batched,
+     * so they keep returning entities managed by it, whose lazy associations can still be loaded. Services that
+     * authorize their operations share batches only between calls of the same authentication.
+     */
+    default FindBatcher<E, ID> getFindBatcher() {
+        return null;
+    }
+
+    /**
+     * Whether a session or a transaction that manages the entities it reads is bound to the current thread, such as
+     * the persistence context that open-in-view binds to the request. Those entities are not shared, so the entity
+     * cache and the find batcher are bypassed while it is. Defaults to whether a transaction is active.
+     */
+    default boolean isSessionBound() {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    /**
+     * Whether the rows the current authentication can read with the operation are restricted by a row filter. The
+     * entity cache and the find batcher are shared by every authentication, so they are bypassed when it is.
+     */
+    default boolean isRowRestricted(CrudOperation operation) {
+        return this instanceof AuthorizedCrud authorizedCrud && AuthorizedCrud.rowFilter(authorizedCrud, operation) != null;
+    }
+
+    default CompletableFuture<Page<E>> pageAsync(String search, Pageable pageable, Node query) {
+        return Crud.supplyAsync(this, getAsyncExecutor(), () -> page(search, pageable, query));
+    }
+
+    default CompletableFuture<E> findAsync(ID id) {
+        return Crud.supplyAsync(this, getAsyncExecutor(), () -> find(id));
+    }
 
-        hooks.onExists(exists, id);
-        return exists;
+    default CompletableFuture<List<E>> findAsync(List<ID> ids) {
+        return Crud.supplyAsync(this, getAsyncExecutor(), () -> find(ids));
+    }
+
+    default CompletableFuture<Long> countAsync(String search, Node query) {
+        return Crud.supplyAsync(this, getAsyncExecutor(), () -> count(search, query));
+    }
+
+    default CompletableFuture<Boolean> existsAsync(ID id) {
+        return Crud.supplyAsync(this, getAsyncExecutor(), () -> exists(id));
     }
 
     Page<E> internalPage(Pageable pageable);
@@ -78,8 +264,69 @@ public non-sealed interface ReadService<E extends Persistable<ID>, ID> extends C
 
     Page<E> internalSearch(String search, Pageable pageable, Node query);
 
+    default Page<Map<String, Object>> internalPage(String search, Pageable pageable, Node query, List<String> fields) {
+        return resolvePage(search, pageable, query).map(entity -> ProjectionUtils.project(entity, fields));
+    }
+
+    /**
+     * Reads a slice of entities. Defaults to {@link #internalPage(Pageable)}, which also counts the entities;
+     * override it to skip the count.
+     */
+    default Slice<E> internalSlice(Pageable pageable) {
+        return internalPage(pageable);
+    }
+
+    default Slice<E> internalSlice(String search, Pageable pageable) {
+        return internalSearch(search, pageable);
+    }
+
+    default Slice<E> internalSlice(String search, Pageable pageable, Node query) {
+        return internalSearch(search, pageable, query);
+    }
+
+    /**
+     * Reads a window of entities from the scroll position. Defaults to offset scrolling over
+     * {@link #internalSlice(Pageable)}, so deep windows cost as much as deep pages; override it to scroll by keyset.
+     *
+     * @throws IllegalArgumentException if the position is not an offset position
+     */
+    default Window<E> internalScroll(ScrollPosition position, Sort sort, int limit) {
+        var pageable = ScrollPositionUtils.toPageable(position, sort, limit);
+        return ScrollPositionUtils.toWindow(internalSlice(pageable), pageable);
+    }
+
+    default Window<E> internalScroll(String search, ScrollPosition position, Sort sort, int limit) {
+        var pageable = ScrollPositionUtils.toPageable(position, sort, limit);
+        return ScrollPositionUtils.toWindow(internalSlice(search, pageable), pageable);
+    }
+
+    default Window<E> internalScroll(String search, ScrollPosition position, Sort sort, int limit, Node query) {
+        var pageable = ScrollPositionUtils.toPageable(position, sort, limit);
+        return ScrollPositionUtils.toWindow(internalSlice(search, pageable, query), pageable);
+    }
+
+    /**
+     * Reads every entity as a stream, which is closed by the caller. Defaults to the content of an unpaged
+     * {@link #internalPage(Pageable)}, which holds every entity in memory; override it to read them from a cursor.
+     */
+    default Stream<E> internalStream(Sort sort) {
+        return internalPage(Pageable.unpaged(sort)).stream();
+    }
+
+    default Stream<E> internalStream(String search, Sort sort) {
+        return internalSearch(search, Pageable.unpaged(sort)).stream();
+    }
+
+    default Stream<E> internalStream(String search, Sort sort, Node query) {
+        return internalSearch(search, Pageable.unpaged(sort), query).stream();
+    }
+
     E internalFind(ID id) throws NotFoundEntityException;
 
+    default Map<String, Object> internalFind(ID id, List<String> fields) throws NotFoundEntityException {
+        return ProjectionUtils.project(internalFind(id), fields);
+    }
+
     List<E> internalFind(List<ID> ids);
 
     long internalCount();
@@ -101,6 +348,74 @@ public non-sealed interface ReadService<E extends Persistable<ID>, ID> extends C
         }
     }
 
+    private Slice<E> resolveSlice(String search, Pageable pageable, Node query) {
+        if (query == null) {
+            if (search == null || search.isBlank()) {
+                return internalSlice(pageable);
+            }
+            return internalSlice(search, pageable);
+        } else {
+            return internalSlice(search, pageable, query);
+        }
+    }
+
+    private Window<E> resolveScroll(String search, ScrollPosition position, Sort sort, int limit, Node query) {
+        if (query == null) {
+            if (search == null || search.isBlank()) {
+                return internalScroll(position, sort, limit);
+            }
+            return internalScroll(search, position, sort, limit);
+        } else {
+            return internalScroll(search, position, sort, limit, query);
+        }
+    }
+
+    private Stream<E> resolveStream(String search, Sort sort, Node query) {
+        if (query == null) {
+            if (search == null || search.isBlank()) {
+                return internalStream(sort);
+            }
+            return internalStream(search, sort);
+        } else {
+            return internalStream(search, sort, query);
+        }
+    }
+
+    private E resolveFind(ID id) {
+        var cache = getEntityCache();
+        if (cache == null) {
+            return batchedFind(id);
+        }
+        if (isSessionBound() || isRowRestricted(CrudOperation.FIND)) {
+            return internalFind(id);
+        }
+        return cache.find(id, this::batchedFind);
+    }
+
+    private E batchedFind(ID id) {
+        var batcher = getFindBatcher();
+        if (batcher == null || isSessionBound() || isRowRestricted(CrudOperation.FIND)) {
+            return internalFind(id);
+        }
+        return Crud.batchedFind(this, batcher, id, this::internalFind);
+    }
+
+    private List<E> resolveFind(List<ID> ids) {
+        var cache = getEntityCache();
+        if (cache == null || isSessionBound() || isRowRestricted(CrudOperation.FIND)) {
+            return internalFind(ids);
+        }
+        return cache.findAll(ids, this::internalFind);
+    }
+
+    private boolean resolveExists(ID id) {
+        var cache = getEntityCache();
+        if (cache != null && !isSessionBound() && !isRowRestricted(CrudOperation.EXISTS) && cache.getIfPresent(id) != null) {
+            return true;
+        }
+        return internalExists(id);
+    }
+
     private long resolveCount(String search, Node query) {
         if (query == null) {
             if (search == null || search.isBlank()) {
@@ -4,13 +4,19 @@ package io.github.luidmidev.springframework.data.crud.core;
 import io.github.luidmidev.springframework.data.crud.core.providers.EntityClassProvider;
 import io.github.luidmidev.springframework.data.crud.core.providers.RepositoryProvider;
 import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
+import io.github.luidmidev.springframework.data.crud.core.utils.MultiGetUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 
 public interface StandardReadService<E extends Persistable<ID>, ID, R extends ListCrudRepository<E, ID> & PagingAndSortingRepository<E, ID>> extends
@@ -23,6 +29,33 @@ public interface StandardReadService<E extends Persistable<ID>, ID, R extends Li
         return getRepository().findAll(pageable);
     }
 
+    @Override
+    default Slice<E> internalSlice(Pageable pageable) {
+        return getRepository().findAll(pageable);
+    }
+
+    /**
+     * Reads the entities in pages of {@link #getStreamChunkSize()} entities, loading the next page only when the
+     * stream reaches it, so only one page is held in memory at a time. Entities written while the stream is read may
+     * be skipped or read twice, since the pages are read by offset. The pages are read with
+     * {@code findAll(Pageable)}, the only paged read of the repository, which also counts the entities for every full
+     * page; override it to read from a cursor of the store, as the JPA services do.
+     */
+    @Override
+    default Stream<E> internalStream(Sort sort) {
+        var repository = getRepository();
+        var first = repository.findAll(PageRequest.of(0, getStreamChunkSize(), sort));
+        return Stream.iterate(first, Objects::nonNull, page -> page.hasNext() ? repository.findAll(page.nextPageable()) : null)
+                .flatMap(Slice::stream);
+    }
+
+    /**
+     * Number of entities read in each page by {@link #internalStream(Sort)}.
+     */
+    default int getStreamChunkSize() {
+        return 500;
+    }
+
     @Override
     default E internalFind(ID id) {
         return getRepository().findById(id).orElseThrow(() -> new NotFoundEntityException(getEntityClass(), id));
@@ -30,7 +63,7 @@ public interface StandardReadService<E extends Persistable<ID>, ID, R extends Li
 
     @Override
     default List<E> internalFind(List<ID> ids) {
-        return getRepository().findAllById(ids);
+        return MultiGetUtils.findAll(ids, getMultiGetChunkSize(), getMultiGetExecutor(), getRepository()::findAllById);
     }
 
 
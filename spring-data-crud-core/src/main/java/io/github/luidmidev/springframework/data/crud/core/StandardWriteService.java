@@ -6,6 +6,8 @@ import org.springframework.data.domain.Persistable;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
+import java.util.List;
+
 
 public interface StandardWriteService<E extends Persistable<ID>, D, ID, R extends ListCrudRepository<E, ID> & PagingAndSortingRepository<E, ID>> extends
         WriteService<E, D, ID>,
@@ -16,6 +18,14 @@ public interface StandardWriteService<E extends Persistable<ID>, D, ID, R extend
         getRepository().save(entity);
     }
 
+    @Override
+    default void internalCreate(List<E> entities) {
+        var saved = getRepository().saveAll(entities);
+        for (var i = 0; i < saved.size(); i++) {
+            entities.set(i, saved.get(i));
+        }
+    }
+
     @Override
     default void internalUpdate(E entity) {
         getRepository().save(entity);
@@ -2,91 +2,368 @@ package io.github.luidmidev.springframework.data.crud.core;
 
 
 import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
+import io.github.luidmidev.springframework.data.crud.core.exceptions.PreconditionFailedException;
+import io.github.luidmidev.springframework.data.crud.core.providers.AfterCommitDispatcherProvider;
+import io.github.luidmidev.springframework.data.crud.core.providers.AsyncExecutorProvider;
+import io.github.luidmidev.springframework.data.crud.core.providers.EntityCacheProvider;
 import io.github.luidmidev.springframework.data.crud.core.providers.EntityClassProvider;
 import io.github.luidmidev.springframework.data.crud.core.providers.TransactionOperationsProvider;
+import io.github.luidmidev.springframework.data.crud.core.providers.ValidatorProvider;
+import io.github.luidmidev.springframework.data.crud.core.hooks.WriteHook;
 import io.github.luidmidev.springframework.data.crud.core.hooks.WriteHooks;
+import io.github.luidmidev.springframework.data.crud.core.utils.InstantiationUtils;
+import io.github.luidmidev.springframework.data.crud.core.utils.TransactionUtils;
+import io.github.luidmidev.springframework.data.crud.core.utils.ValidatorUtils;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
-import lombok.SneakyThrows;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.data.domain.Persistable;
+import org.springframework.util.ClassUtils;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 @Validated
 public non-sealed interface WriteService<E extends Persistable<ID>, D, ID> extends
         Crud,
         EntityClassProvider<E>,
-        TransactionOperationsProvider {
+        EntityCacheProvider<E, ID>,
+        AfterCommitDispatcherProvider,
+        AsyncExecutorProvider,
+        TransactionOperationsProvider,
+        ValidatorProvider {
 
     default WriteHooks<E, D, ID> getHooks() {
         return WriteHooks.getDefault();
     }
 
     default E create(@Valid @NotNull D dto) {
-        Crud.preProccess(this, CrudOperation.CREATE);
+        var sample = Crud.preProccess(this, CrudOperation.CREATE);
 
         var entity = newEntity();
         var hooks = getHooks();
         var transactionOperations = getTransactionOperations();
 
-        return transactionOperations.execute(status -> {
+        return sample.record(() -> transactionOperations.execute(status -> {
             try {
                 mapModel(dto, entity);
-                hooks.onBeforeCreate(dto, entity);
-                internalCreate(entity);
-                hooks.onAfterCreate(dto, entity);
+                sample.hooks(() -> hooks.onBeforeCreate(dto, entity));
+                sample.query(() -> internalCreate(entity));
+                sample.hooks(() -> hooks.onAfterCreate(dto, entity));
+                invalidateAfterCommit(Collections.singletonList(entity.getId()));
+                dispatchAfterCommit(hooks, CrudOperation.CREATE, List.of(entity));
                 return entity;
             } catch (Exception e) {
                 status.setRollbackOnly();
                 throw e;
             }
-        });
+        }));
+    }
+
+    default List<E> createAll(@Valid @NotNull List<D> dtos) {
+        var sample = Crud.preProccess(this, CrudOperation.CREATE);
+
+        var hooks = getHooks();
+        var transactionOperations = getTransactionOperations();
+
+        return sample.record(() -> transactionOperations.execute(status -> {
+            try {
+                var entities = new ArrayList<E>(dtos.size());
+                for (var dto : dtos) {
+                    var entity = newEntity();
+                    mapModel(dto, entity);
+                    entities.add(entity);
+                }
+                sample.hooks(() -> hooks.onBeforeCreate(dtos, entities));
+                sample.query(() -> internalCreate(entities));
+                sample.hooks(() -> hooks.onAfterCreate(dtos, entities));
+                sample.resultSize(entities.size());
+                invalidateAfterCommit(entities.stream().map(E::getId).toList());
+                dispatchAfterCommit(hooks, CrudOperation.CREATE, entities);
+                return entities;
+            } catch (Exception e) {
+                status.setRollbackOnly();
+                throw e;
+            }
+        }));
     }
 
     default E update(@NotNull ID id, @Valid @NotNull D dto) throws NotFoundEntityException {
-        Crud.preProccess(this, CrudOperation.UPDATE);
+        return update(id, dto, null);
+    }
+
+    /**
+     * Updates the entity if the precondition holds for its current state, e.g. if its version is the one the client
+     * read, so concurrent updates are not lost. The precondition is checked in the transaction of the update, before
+     * the entity is changed.
+     *
+     * @throws PreconditionFailedException if the precondition does not hold
+     */
+    default E update(@NotNull ID id, @Valid @NotNull D dto, Predicate<? super E> precondition) throws NotFoundEntityException {
+        var sample = Crud.preProccess(this, CrudOperation.UPDATE);
 
-        var entity = internalFind(id);
         var hooks = getHooks();
         var transactionOperations = getTransactionOperations();
 
-        return transactionOperations.execute(status -> {
+        return sample.record(() -> transactionOperations.execute(status -> {
             try {
+                var entity = sample.query(() -> internalFind(id, CrudOperation.UPDATE));
+                verifyPrecondition(id, entity, precondition);
                 mapModel(dto, entity);
-                hooks.onBeforeUpdate(dto, entity);
-                internalUpdate(entity);
-                hooks.onAfterUpdate(dto, entity);
+                sample.hooks(() -> hooks.onBeforeUpdate(dto, entity));
+                sample.query(() -> internalUpdate(entity));
+                sample.hooks(() -> hooks.onAfterUpdate(dto, entity));
+                invalidateAfterCommit(List.of(id));
+                dispatchAfterCommit(hooks, CrudOperation.UPDATE, List.of(entity));
                 return entity;
             } catch (Exception e) {
                 status.setRollbackOnly();
                 throw e;
             }
-        });
+        }));
+    }
+
+    default E patch(@NotNull ID id, @NotNull D dto, @NotNull Set<String> fields) throws NotFoundEntityException {
+        return patch(id, dto, fields, null);
+    }
+
+    /**
+     * Patches the entity if the precondition holds for its current state, as {@link #update(Object, Object, Predicate)}.
+     * <p>
+     * Only the given fields of the DTO are validated, with the {@link #getValidator() validator} of the service, since
+     * the absent fields are not applied; nested objects are not validated.
+     * </p>
+     *
+     * @throws PreconditionFailedException                   if the precondition does not hold
+     * @throws jakarta.validation.ConstraintViolationException if a given field of the DTO is not valid
+     */
+    default E patch(@NotNull ID id, @NotNull D dto, @NotNull Set<String> fields, Predicate<? super E> precondition) throws NotFoundEntityException {
+        var sample = Crud.preProccess(this, CrudOperation.UPDATE);
+
+        var validator = getValidator();
+        if (validator != null) {
+            ValidatorUtils.validateProperties(validator, dto, fields);
+        }
+
+        var hooks = getHooks();
+        var transactionOperations = getTransactionOperations();
+
+        return sample.record(() -> transactionOperations.execute(status -> {
+            try {
+                var entity = sample.query(() -> internalFind(id, CrudOperation.UPDATE));
+                verifyPrecondition(id, entity, precondition);
+                patchModel(dto, entity, fields);
+                sample.hooks(() -> hooks.onBeforeUpdate(dto, entity));
+                sample.query(() -> internalUpdate(entity));
+                sample.hooks(() -> hooks.onAfterUpdate(dto, entity));
+                invalidateAfterCommit(List.of(id));
+                dispatchAfterCommit(hooks, CrudOperation.UPDATE, List.of(entity));
+                return entity;
+            } catch (Exception e) {
+                status.setRollbackOnly();
+                throw e;
+            }
+        }));
     }
 
     default void delete(@NotNull ID id) throws NotFoundEntityException {
-        Crud.preProccess(this, CrudOperation.DELETE);
+        delete(id, null);
+    }
+
+    /**
+     * Deletes the entity if the precondition holds for its current state, as {@link #update(Object, Object, Predicate)}.
+     *
+     * @throws PreconditionFailedException if the precondition does not hold
+     */
+    default void delete(@NotNull ID id, Predicate<? super E> precondition) throws NotFoundEntityException {
+        var sample = Crud.preProccess(this, CrudOperation.DELETE);
+
+        var hooks = getHooks();
+        var transactionOperations = getTransactionOperations();
+
+        sample.record(() -> transactionOperations.executeWithoutResult(status -> {
+            try {
+                var entity = sample.query(() -> internalFind(id, CrudOperation.DELETE));
+                verifyPrecondition(id, entity, precondition);
+                sample.hooks(() -> hooks.onBeforeDelete(entity));
+                sample.query(() -> internalDelete(entity));
+                sample.hooks(() -> hooks.onAfterDelete(entity));
+                invalidateAfterCommit(List.of(id));
+                dispatchAfterCommit(hooks, CrudOperation.DELETE, List.of(entity));
+            } catch (Exception e) {
+                status.setRollbackOnly();
+                throw e;
+            }
+        }));
+    }
+
+    /**
+     * Deletes the entities with the ids in a single transaction. Duplicated ids are deleted once, and if any id has no
+     * entity nothing is deleted. When the delete hooks are not overridden, the entities are deleted through
+     * {@link #internalDeleteAllById(List)}, which may delete them without loading them.
+     *
+     * @throws NotFoundEntityException if an id has no entity
+     */
+    default void deleteAll(@NotNull List<ID> ids) throws NotFoundEntityException {
+        var sample = Crud.preProccess(this, CrudOperation.DELETE);
 
-        var entity = internalFind(id);
         var hooks = getHooks();
+        var transactionOperations = getTransactionOperations();
 
-        hooks.onBeforeDelete(entity);
-        internalDelete(entity);
-        hooks.onAfterDelete(entity);
+        sample.record(() -> transactionOperations.executeWithoutResult(status -> {
+            try {
+                var distinct = List.copyOf(new LinkedHashSet<>(ids));
+                invalidateAfterCommit(distinct);
+                if (!requiresEntityOnDelete(hooks)) {
+                    sample.query(() -> internalDeleteAllById(distinct));
+                    return;
+                }
+                var entities = new ArrayList<E>(distinct.size());
+                for (var id : distinct) {
+                    var entity = sample.query(() -> internalFind(id, CrudOperation.DELETE));
+                    sample.hooks(() -> hooks.onBeforeDelete(entity));
+                    sample.query(() -> internalDelete(entity));
+                    sample.hooks(() -> hooks.onAfterDelete(entity));
+                    entities.add(entity);
+                }
+                dispatchAfterCommit(hooks, CrudOperation.DELETE, entities);
+            } catch (Exception e) {
+                status.setRollbackOnly();
+                throw e;
+            }
+        }));
+    }
+
+
+    default CompletableFuture<E> createAsync(@Valid @NotNull D dto) {
+        return Crud.supplyAsync(this, getAsyncExecutor(), () -> create(dto));
     }
 
+    default CompletableFuture<E> updateAsync(@NotNull ID id, @Valid @NotNull D dto) {
+        return Crud.supplyAsync(this, getAsyncExecutor(), () -> update(id, dto));
+    }
+
+    default CompletableFuture<Void> deleteAsync(@NotNull ID id) {
+        return Crud.supplyAsync(this, getAsyncExecutor(), () -> {
+            delete(id);
+            return null;
+        });
+    }
 
-    @SneakyThrows
     default E newEntity() {
-        return getEntityClass().getConstructor().newInstance();
+        return InstantiationUtils.newInstance(getEntityClass());
     }
 
     E internalFind(ID id) throws NotFoundEntityException;
 
+    /**
+     * Loads the entity changed by the {@link CrudOperation#UPDATE update} or {@link CrudOperation#DELETE delete}.
+     * Defaults to {@link #internalFind(Object)}; services with row-level authorization also restrict it with the row
+     * filter of the operation, so rows the authentication cannot change are not found.
+     *
+     * @throws NotFoundEntityException if the id has no entity the operation can change
+     */
+    default E internalFind(ID id, CrudOperation operation) throws NotFoundEntityException {
+        return internalFind(id);
+    }
+
     void mapModel(D dto, E model);
 
+    /**
+     * Copies the given fields of the DTO to the properties of the entity with the same name. The fields are property
+     * names of the DTO, which {@link io.github.luidmidev.springframework.data.crud.core.web.MergePatch} resolves from
+     * the JSON member names. Fields that are not properties of both the DTO and the entity are ignored. Override it
+     * when the DTO and the entity do not share property names, or delegate to the mapper generated for a DTO annotated
+     * with {@link io.github.luidmidev.springframework.data.crud.core.mapping.CrudMapper} to avoid reflection.
+     */
+    default void patchModel(D dto, E model, Set<String> fields) {
+        var source = new BeanWrapperImpl(dto);
+        var target = new BeanWrapperImpl(model);
+        for (var field : fields) {
+            if (source.isReadableProperty(field) && target.isWritableProperty(field)) {
+                target.setPropertyValue(field, source.getPropertyValue(field));
+            }
+        }
+    }
+
     void internalCreate(E entity);
 
+    void internalCreate(List<E> entities);
+
     void internalUpdate(E entity);
 
     void internalDelete(E entity);
+
+    /**
+     * Deletes the entities with the given distinct ids, without running the hooks. Defaults to loading and deleting
+     * each entity.
+     *
+     * @throws NotFoundEntityException if an id has no entity
+     */
+    default void internalDeleteAllById(List<ID> ids) throws NotFoundEntityException {
+        for (var id : ids) {
+            internalDelete(internalFind(id, CrudOperation.DELETE));
+        }
+    }
+
+    private void verifyPrecondition(ID id, E entity, Predicate<? super E> precondition) {
+        if (precondition != null && !precondition.test(entity)) {
+            throw new PreconditionFailedException(getEntityClass(), id);
+        }
+    }
+
+    private void invalidateAfterCommit(Collection<ID> ids) {
+        var cache = getEntityCache();
+        if (cache != null) {
+            TransactionUtils.afterCommit(() -> cache.invalidateAll(ids));
+        }
+    }
+
+    /**
+     * Dispatches the after-commit hook of the operation once the current transaction commits, unless the hooks do not
+     * override it. Events are batched per service, hooks class and operation, since the hooks may be created on each
+     * call.
+     */
+    private void dispatchAfterCommit(WriteHooks<E, D, ID> hooks, CrudOperation operation, List<E> models) {
+        var hook = switch (operation) {
+            case CREATE -> WriteHook.AFTER_COMMIT_CREATE;
+            case UPDATE -> WriteHook.AFTER_COMMIT_UPDATE;
+            default -> WriteHook.AFTER_COMMIT_DELETE;
+        };
+        if (models.isEmpty() || !hook.isOverriddenBy(hooks)) {
+            return;
+        }
+
+        Consumer<List<E>> action = switch (operation) {
+            case CREATE -> hooks::onAfterCommitCreate;
+            case UPDATE -> hooks::onAfterCommitUpdate;
+            default -> hooks::onAfterCommitDelete;
+        };
+        var dispatcher = getAfterCommitDispatcher();
+        var key = List.of(ClassUtils.getUserClass(this), hooks.getClass(), operation);
+        TransactionUtils.afterCommit(() -> {
+            if (dispatcher == null) {
+                action.accept(models);
+            } else {
+                dispatcher.dispatch(key, models, action);
+            }
+        });
+    }
+
+    /**
+     * Whether the delete hooks are overridden and therefore need each entity to be loaded before it is deleted.
+     */
+    private static boolean requiresEntityOnDelete(WriteHooks<?, ?, ?> hooks) {
+        return WriteHook.BEFORE_DELETE.isOverriddenBy(hooks)
+                || WriteHook.AFTER_DELETE.isOverriddenBy(hooks)
+                || WriteHook.AFTER_COMMIT_DELETE.isOverriddenBy(hooks);
+    }
 }
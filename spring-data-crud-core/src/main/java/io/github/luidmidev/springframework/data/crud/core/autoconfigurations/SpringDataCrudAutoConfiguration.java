@@ -2,12 +2,28 @@ package io.github.luidmidev.springframework.data.crud.core.autoconfigurations;
 
 import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.cache.AuthorizationDecisionCache;
+import io.github.luidmidev.springframework.data.crud.core.cache.BoundedCacheMetrics;
+import io.github.luidmidev.springframework.data.crud.core.metrics.CrudOperationMetrics;
+import io.github.luidmidev.springframework.data.crud.core.metrics.SlowCrudOperations;
+import io.github.luidmidev.springframework.data.crud.core.metrics.SlowCrudOperationsEndpoint;
+import io.github.luidmidev.springframework.data.crud.core.providers.EntityCacheProvider;
+import io.github.luidmidev.springframework.data.crud.core.rsql.RsqlNodeCache;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.web.SpringDataWebProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Autoconfiguration class for setting up Spring Data CRUD operations with custom authorization.
  * <p>
@@ -18,20 +34,104 @@ import org.springframework.core.convert.converter.Converter;
  */
 @Slf4j
 @AutoConfiguration
+@EnableConfigurationProperties(SpringDataCrudProperties.class)
 public class SpringDataCrudAutoConfiguration {
 
     @Bean
-    public Converter<String, Node> rsqlQueryConverter() {
+    public Converter<String, Node> rsqlQueryConverter(ObjectProvider<RsqlNodeCache> rsqlNodeCache) {
         final var parser = new RSQLParser();
+        final var cache = rsqlNodeCache.getIfAvailable();
         return source -> {
             if (source.isBlank()) {
                 return null; // Return null for empty or null input
             }
             try {
-                return parser.parse(source);
+                return cache == null ? parser.parse(source) : cache.get(source, parser::parse);
             } catch (Exception e) {
                 throw new IllegalArgumentException("Invalid RSQL query: " + source, e);
             }
         };
     }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.data.crud.rsql.cache", name = "enabled", havingValue = "true")
+    public RsqlNodeCache rsqlNodeCache(SpringDataCrudProperties properties) {
+        var cache = properties.getRsql().getCache();
+        log.debug("Caching up to {} parsed RSQL queries for {}", cache.getMaximumSize(), cache.getTimeToLive());
+        return new RsqlNodeCache(cache.getMaximumSize(), cache.getTimeToLive());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.data.crud.authorization.cache", name = "enabled", havingValue = "true")
+    public AuthorizationDecisionCache authorizationDecisionCache(SpringDataCrudProperties properties) {
+        var cache = properties.getAuthorization().getCache();
+        log.debug("Caching up to {} authorization decisions per {} for {}", cache.getMaximumSize(), cache.getScope(), cache.getTimeToLive());
+        return new AuthorizationDecisionCache(cache.getScope(), cache.getMaximumSize(), cache.getTimeToLive());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "spring.data.crud.slow-operations", name = "enabled", havingValue = "true")
+    public SlowCrudOperations slowCrudOperations(SpringDataCrudProperties properties) {
+        var slowOperations = properties.getSlowOperations();
+        log.debug("Logging CRUD operations slower than {}", slowOperations.getThreshold());
+        return new SlowCrudOperations(slowOperations.getThreshold(), slowOperations.getLogSampleRate(), slowOperations.getMaximumShapes());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "spring.data.crud.rsql.cache", name = "enabled", havingValue = "true")
+    static class RsqlNodeCacheMetricsConfiguration {
+
+        @Bean
+        public BoundedCacheMetrics rsqlNodeCacheMetrics(RsqlNodeCache rsqlNodeCache) {
+            return new BoundedCacheMetrics(rsqlNodeCache, "rsql", List.of());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "spring.data.crud.authorization.cache", name = "enabled", havingValue = "true")
+    static class AuthorizationDecisionCacheMetricsConfiguration {
+
+        @Bean
+        public BoundedCacheMetrics authorizationDecisionCacheMetrics(AuthorizationDecisionCache authorizationDecisionCache) {
+            return new BoundedCacheMetrics(authorizationDecisionCache, "authorization", List.of());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class EntityCacheMetricsConfiguration {
+
+        @Bean
+        public MeterBinder entityCacheMetrics(ObjectProvider<EntityCacheProvider<?, ?>> providers) {
+            return registry -> providers.orderedStream()
+                    .map(EntityCacheProvider::getEntityCache)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(cache -> new BoundedCacheMetrics(cache, cache.getName(), List.of()).bindTo(registry));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "spring.data.crud.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class CrudOperationMetricsConfiguration {
+
+        @Bean(destroyMethod = "stop")
+        public CrudOperationMetrics crudOperationMetrics() {
+            return new CrudOperationMetrics();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    @ConditionalOnProperty(prefix = "spring.data.crud.slow-operations", name = "enabled", havingValue = "true")
+    static class SlowCrudOperationsEndpointConfiguration {
+
+        @Bean
+        public SlowCrudOperationsEndpoint slowCrudOperationsEndpoint(SlowCrudOperations slowCrudOperations, SpringDataCrudProperties properties) {
+            return new SlowCrudOperationsEndpoint(slowCrudOperations, properties.getSlowOperations().getTop());
+        }
+    }
 }
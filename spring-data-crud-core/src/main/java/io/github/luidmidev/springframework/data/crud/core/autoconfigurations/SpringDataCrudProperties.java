@@ -0,0 +1,143 @@
+package io.github.luidmidev.springframework.data.crud.core.autoconfigurations;
+
+import io.github.luidmidev.springframework.data.crud.core.cache.AuthorizationDecisionCache;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for Spring Data CRUD.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.data.crud")
+public class SpringDataCrudProperties {
+
+    /**
+     * RSQL query parsing settings.
+     */
+    private final Rsql rsql = new Rsql();
+
+    /**
+     * Metrics of the CRUD operations.
+     */
+    private final Metrics metrics = new Metrics();
+
+    /**
+     * Log of slow CRUD operations.
+     */
+    private final SlowOperations slowOperations = new SlowOperations();
+
+    /**
+     * Authorization of the CRUD operations.
+     */
+    private final Authorization authorization = new Authorization();
+
+    @Getter
+    @Setter
+    public static class Rsql {
+
+        /**
+         * Cache of parsed RSQL queries.
+         */
+        private final Cache cache = new Cache();
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Whether parsed RSQL queries are cached by their raw query string.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of parsed queries kept in the cache.
+         */
+        private int maximumSize = 256;
+
+        /**
+         * Time after which a cached query is parsed again. Zero means entries never expire.
+         */
+        private Duration timeToLive = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        /**
+         * Whether the CRUD operations are timed with Micrometer, when it is present.
+         */
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class SlowOperations {
+
+        /**
+         * Whether CRUD operations slower than the threshold are logged and aggregated by shape.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Time above which an operation is considered slow.
+         */
+        private Duration threshold = Duration.ofSeconds(1);
+
+        /**
+         * Fraction of the slow operations that are logged, between 0 and 1. Every slow operation is aggregated.
+         */
+        private double logSampleRate = 1.0;
+
+        /**
+         * Maximum number of recent shapes of slow operations kept.
+         */
+        private int maximumShapes = 500;
+
+        /**
+         * Number of shapes listed by the actuator endpoint when no limit is given.
+         */
+        private int top = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Authorization {
+
+        /**
+         * Cache of the authorization decisions.
+         */
+        private final AuthorizationCache cache = new AuthorizationCache();
+    }
+
+    @Getter
+    @Setter
+    public static class AuthorizationCache {
+
+        /**
+         * Whether an authorization decision cache is available for the services to use.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Whether decisions are cached per authentication instance, or per authentication name and authorities for
+         * stateless tokens.
+         */
+        private AuthorizationDecisionCache.Scope scope = AuthorizationDecisionCache.Scope.AUTHENTICATION;
+
+        /**
+         * Maximum number of decisions kept in the cache.
+         */
+        private int maximumSize = 10_000;
+
+        /**
+         * Time after which a cached decision is checked again. Zero means entries never expire.
+         */
+        private Duration timeToLive = Duration.ofSeconds(30);
+    }
+}
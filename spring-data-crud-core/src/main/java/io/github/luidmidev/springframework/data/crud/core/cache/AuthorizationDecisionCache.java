@@ -0,0 +1,103 @@
+package io.github.luidmidev.springframework.data.crud.core.cache;
+
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the authorization decisions of the CRUD services, keyed by the authentication, the service instance
+ * and the {@link CrudOperation}. Services are compared by identity, so two beans of the same class with different
+ * authorization managers keep their own decisions.
+ * <p>
+ * With the {@link Scope#AUTHENTICATION} scope the decisions are kept for the authentication instance that requested
+ * them, so they last as long as the request, or the session that stores it. Stateless tokens create a new
+ * authentication on every request; with the {@link Scope#PRINCIPAL} scope the decisions are shared by the
+ * authentications with the same name and authorities, and a short time to live bounds how long a revoked permission
+ * keeps being granted. The least recently used entry is evicted when the cache is full. Requests without
+ * authentication and abstentions of the authorization manager are never cached.
+ * </p>
+ */
+public class AuthorizationDecisionCache extends BoundedCache<AuthorizationDecisionCache.Key, AuthorizationResult> {
+
+    public enum Scope {
+
+        /**
+         * Decisions are cached per authentication instance.
+         */
+        AUTHENTICATION,
+
+        /**
+         * Decisions are cached per authentication name and authorities.
+         */
+        PRINCIPAL
+    }
+
+    private final Scope scope;
+
+    public AuthorizationDecisionCache(Scope scope, int maximumSize, Duration timeToLive) {
+        super(maximumSize, timeToLive);
+        if (scope == null) {
+            throw new IllegalArgumentException("Scope must not be null");
+        }
+        this.scope = scope;
+    }
+
+    /**
+     * Returns the cached decision of the operation, authorizing and caching it if absent or expired.
+     *
+     * @param authentication the authentication of the request, or {@code null} if there is none
+     * @param service        the service that authorizes the operation
+     * @param operation      the operation
+     * @param authorizer     the function used to authorize the operation on a miss
+     * @return the decision, or {@code null} if the authorizer abstained
+     */
+    public AuthorizationResult get(Authentication authentication, Object service, CrudOperation operation, Function<Authentication, AuthorizationResult> authorizer) {
+        if (authentication == null) {
+            return authorizer.apply(null);
+        }
+        return get(new Key(principal(authentication), new IdentityKey(service), operation), key -> authorizer.apply(authentication));
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    private Object principal(Authentication authentication) {
+        return switch (scope) {
+            case AUTHENTICATION -> new IdentityKey(authentication);
+            case PRINCIPAL -> new NamedPrincipal(
+                    authentication.getName(),
+                    AuthorityUtils.authorityListToSet(authentication.getAuthorities()),
+                    authentication.isAuthenticated()
+            );
+        };
+    }
+
+    record Key(Object principal, IdentityKey service, CrudOperation operation) {
+    }
+
+    /**
+     * Compares the referenced instance by identity, so equal but distinct authentications or services do not share
+     * decisions.
+     */
+    record IdentityKey(Object instance) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey other && other.instance == instance;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(instance);
+        }
+    }
+
+    private record NamedPrincipal(String name, Set<String> authorities, boolean authenticated) {
+    }
+}
@@ -0,0 +1,227 @@
+package io.github.luidmidev.springframework.data.crud.core.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, in-memory read-through cache, shared by the caches of the library and bound to the standard Micrometer
+ * {@code cache.*} meters by {@link BoundedCacheMetrics}.
+ * <p>
+ * The least recently used entry is evicted when the cache is full, and entries older than the time to live are
+ * loaded again on their next access. Loads run outside the lock, so concurrent misses of the same key may load it
+ * more than once. A value loaded while the cache is invalidated is returned but not cached, so a load that raced with
+ * an invalidation never leaves a stale entry behind. {@code null} values are never cached.
+ * </p>
+ *
+ * @param <K> Key
+ * @param <V> Value
+ */
+public class BoundedCache<K, V> {
+
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final Map<K, CachedValue<V>> entries;
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumSize the maximum number of entries
+     * @param timeToLive  how long an entry is kept after it is loaded, or {@code null} or zero to keep it until it is
+     *                    evicted
+     */
+    public BoundedCache(int maximumSize, Duration timeToLive) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive == null || timeToLive.isZero() ? Long.MAX_VALUE : timeToLive.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                var remove = size() > BoundedCache.this.maximumSize;
+                if (remove) {
+                    evictions.increment();
+                }
+                return remove;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value of the key, loading and caching it if absent or expired.
+     *
+     * @param key    the key
+     * @param loader the function used to load the value on a miss
+     * @return the value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        var now = System.nanoTime();
+        long loadGeneration;
+        synchronized (entries) {
+            var cached = lookup(key, now);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+
+        synchronized (entries) {
+            put(key, value, now, loadGeneration);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cached values of the keys, loading the absent or expired ones with a single call to the loader.
+     *
+     * @param keys   the keys
+     * @param loader the function used to load the values of the missing keys, which omits the keys without value
+     * @return the values by key, in the order of the keys, once per distinct key; keys without value are skipped
+     */
+    public Map<K, V> getAll(Collection<? extends K> keys, Function<List<K>, Map<K, V>> loader) {
+        var now = System.nanoTime();
+        var distinct = new LinkedHashSet<K>(keys);
+        var found = HashMap.<K, V>newHashMap(distinct.size());
+        var missing = new ArrayList<K>();
+        long loadGeneration;
+        synchronized (entries) {
+            for (var key : distinct) {
+                var cached = lookup(key, now);
+                if (cached == null) {
+                    missing.add(key);
+                } else {
+                    found.put(key, cached);
+                }
+            }
+            loadGeneration = generation;
+        }
+
+        hits.add(found.size());
+        misses.add(missing.size());
+
+        if (!missing.isEmpty()) {
+            var loaded = loader.apply(missing);
+            synchronized (entries) {
+                loaded.forEach((key, value) -> put(key, value, now, loadGeneration));
+            }
+            found.putAll(loaded);
+        }
+
+        var result = LinkedHashMap.<K, V>newLinkedHashMap(found.size());
+        for (var key : distinct) {
+            var value = found.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cached value of the key, without loading it.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if it is not cached or expired
+     */
+    public V getIfPresent(K key) {
+        var now = System.nanoTime();
+        synchronized (entries) {
+            var cached = lookup(key, now);
+            if (cached == null) {
+                misses.increment();
+            } else {
+                hits.increment();
+            }
+            return cached;
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll(Collection<? extends K> keys) {
+        synchronized (entries) {
+            generation++;
+            for (var key : keys) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getPutCount() {
+        return puts.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private V lookup(K key, long now) {
+        var cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (now - cached.loadedAt() < timeToLiveNanos) {
+            return cached.value();
+        }
+        entries.remove(key);
+        evictions.increment();
+        return null;
+    }
+
+    private void put(K key, V value, long loadedAt, long loadGeneration) {
+        if (key == null || value == null || loadGeneration != generation) {
+            return;
+        }
+        entries.put(key, new CachedValue<>(value, loadedAt));
+        puts.increment();
+    }
+
+    private record CachedValue<V>(V value, long loadedAt) {
+    }
+}
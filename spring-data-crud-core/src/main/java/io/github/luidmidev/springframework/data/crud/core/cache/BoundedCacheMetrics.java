@@ -0,0 +1,49 @@
+package io.github.luidmidev.springframework.data.crud.core.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Binds the statistics of a {@link BoundedCache} to the standard Micrometer {@code cache.*} meters.
+ */
+public class BoundedCacheMetrics extends CacheMeterBinder<BoundedCache<?, ?>> {
+
+    public BoundedCacheMetrics(BoundedCache<?, ?> cache, String cacheName, Iterable<Tag> tags) {
+        super(cache, cacheName, tags);
+    }
+
+    @Override
+    protected Long size() {
+        return (long) getCache().size();
+    }
+
+    @Override
+    protected long hitCount() {
+        return getCache().getHitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        return getCache().getMissCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return getCache().getEvictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        return getCache().getPutCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        Gauge.builder("cache.maximum.size", getCache(), BoundedCache::getMaximumSize)
+                .tags(getTagsWithCacheName())
+                .description("The maximum number of entries the cache can hold")
+                .register(registry);
+    }
+}
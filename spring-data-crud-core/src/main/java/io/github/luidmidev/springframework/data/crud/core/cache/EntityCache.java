@@ -0,0 +1,92 @@
+package io.github.luidmidev.springframework.data.crud.core.cache;
+
+import io.github.luidmidev.springframework.data.crud.core.utils.InstantiationUtils;
+import org.springframework.data.domain.Persistable;
+import org.springframework.util.ReflectionUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded, in-memory read-through cache of entities keyed by their id.
+ * <p>
+ * The least recently used entry is evicted when the cache is full, and entries older than the time to live are
+ * loaded again on their next access. Entries are invalidated by the write operations after their transaction
+ * commits; an entity loaded while an invalidation happens is returned but not cached, so a load that raced with a
+ * write never leaves a stale entry behind. Missing entities are never cached.
+ * </p>
+ * <p>
+ * Cached instances outlive the session that loaded them, so their lazy associations must be initialized before they
+ * are cached. {@link #find(Object, Function)} and {@link #findAll(Collection, Function)} return a copy of the cached
+ * instance to each caller, so the read hooks and the callers can change it without affecting the others; the default
+ * copy is shallow, so the associations are still shared and must be treated as read-only. The read services only use
+ * the cache when no session or transaction is bound to the thread, so managed entities, and uncommitted or rolled
+ * back state, never reach it. It is meant for reference entities that are read far more often than they are written.
+ * </p>
+ *
+ * @param <E>  Entity
+ * @param <ID> ID
+ */
+public class EntityCache<E extends Persistable<ID>, ID> extends BoundedCache<ID, E> {
+
+    private final String name;
+    private final UnaryOperator<E> copier;
+
+    public EntityCache(String name, int maximumSize, Duration timeToLive) {
+        this(name, maximumSize, timeToLive, EntityCache::shallowCopy);
+    }
+
+    /**
+     * @param copier the function that copies a cached entity before it is returned
+     */
+    public EntityCache(String name, int maximumSize, Duration timeToLive, UnaryOperator<E> copier) {
+        super(maximumSize, timeToLive);
+        if (copier == null) {
+            throw new IllegalArgumentException("Copier must not be null");
+        }
+        this.name = name;
+        this.copier = copier;
+    }
+
+    /**
+     * Returns a copy of the cached entity with the id, loading it if absent or expired.
+     *
+     * @param id     the id of the entity
+     * @param loader the function used to load the entity on a miss
+     * @return the copy of the entity, or {@code null} if the loader returned none
+     */
+    public E find(ID id, Function<? super ID, ? extends E> loader) {
+        var entity = get(id, loader);
+        return entity == null ? null : copier.apply(entity);
+    }
+
+    /**
+     * Returns copies of the cached entities with the ids, loading the absent or expired ones with a single call to the
+     * loader. The entities are returned in the order of their ids, once per distinct id; ids without entity are
+     * skipped.
+     *
+     * @param ids    the ids of the entities
+     * @param loader the function used to load the entities of the missing ids
+     * @return the entities
+     */
+    public List<E> findAll(Collection<ID> ids, Function<List<ID>, List<E>> loader) {
+        var entities = getAll(ids, missing -> loader.apply(missing).stream()
+                .collect(Collectors.toMap(Persistable::getId, Function.identity())));
+        return entities.values().stream().map(copier).toList();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E shallowCopy(E entity) {
+        var copy = (E) InstantiationUtils.newInstance(entity.getClass());
+        ReflectionUtils.shallowCopyFieldState(entity, copy);
+        return copy;
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.luidmidev.springframework.data.crud.core.cache;
+
+import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent lookups of entities by id into batched loads.
+ * <p>
+ * A lookup of an id that is already being loaded waits for that load instead of issuing its own. Other lookups are
+ * collected in a batch, which is loaded with a single call to the loader when it reaches the maximum batch size or
+ * when the window since its first lookup elapses, whichever comes first. Every lookup therefore waits at most the
+ * window before its batch is loaded.
+ * </p>
+ * <p>
+ * Lookups can be given a scope, such as the authentication of the caller, and only share a batch or a load with the
+ * lookups of an equal scope, so a loader that filters the rows by its caller returns the same entities to all of
+ * them. Batches are loaded on their own threads, outside of the transaction and the session of the callers, so the
+ * returned entities are not managed by the persistence context of the caller, and a loader that depends on the state
+ * of the calling thread, such as its security context, must carry it itself.
+ * </p>
+ *
+ * @param <E>  Entity
+ * @param <ID> ID
+ */
+public class FindBatcher<E extends Persistable<ID>, ID> {
+
+    private final Class<E> entityClass;
+    private final int maxBatchSize;
+    private final Executor delayedExecutor;
+    private final Executor executor;
+
+    private final Object lock = new Object();
+    private final Map<Key<ID>, CompletableFuture<E>> inFlight = new HashMap<>();
+    private final Map<Object, Batch<E, ID>> pending = new HashMap<>();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public FindBatcher(Class<E> entityClass, int maxBatchSize, Duration window) {
+        this(entityClass, maxBatchSize, window, command -> Thread.ofVirtual().start(command));
+    }
+
+    public FindBatcher(Class<E> entityClass, int maxBatchSize, Duration window, Executor executor) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Maximum batch size must be positive: " + maxBatchSize);
+        }
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        this.entityClass = entityClass;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = executor;
+        this.delayedExecutor = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, executor);
+    }
+
+    /**
+     * Returns the entity with the id, waiting for the batch that loads it.
+     *
+     * @param id     the id of the entity
+     * @param loader the function used to load a batch of ids, if this lookup starts a new batch
+     * @return the entity
+     * @throws NotFoundEntityException if the loader does not return an entity with the id
+     */
+    public E find(ID id, Function<List<ID>, List<E>> loader) throws NotFoundEntityException {
+        return find(id, null, loader);
+    }
+
+    /**
+     * Returns the entity with the id, waiting for the batch of the scope that loads it.
+     *
+     * @param id     the id of the entity
+     * @param scope  the scope of the lookup, or {@code null} to share the batches of every unscoped lookup
+     * @param loader the function used to load a batch of ids, if this lookup starts a new batch
+     * @return the entity
+     * @throws NotFoundEntityException if the loader does not return an entity with the id
+     */
+    public E find(ID id, Object scope, Function<List<ID>, List<E>> loader) throws NotFoundEntityException {
+        lookups.increment();
+
+        var key = new Key<>(scope, id);
+        CompletableFuture<E> future;
+        Batch<E, ID> full = null;
+        synchronized (lock) {
+            future = inFlight.get(key);
+            if (future != null) {
+                coalesced.increment();
+            } else {
+                future = new CompletableFuture<>();
+                inFlight.put(key, future);
+
+                var batch = pending.get(scope);
+                if (batch == null) {
+                    var created = new Batch<E, ID>(scope, loader, new LinkedHashMap<>());
+                    pending.put(scope, created);
+                    delayedExecutor.execute(() -> flush(created));
+                    batch = created;
+                }
+                batch.futures().put(id, future);
+                if (batch.futures().size() >= maxBatchSize) {
+                    full = batch;
+                    pending.remove(scope);
+                }
+            }
+        }
+
+        if (full != null) {
+            var batch = full;
+            executor.execute(() -> load(batch));
+        }
+        return join(future);
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    private void flush(Batch<E, ID> batch) {
+        synchronized (lock) {
+            if (pending.get(batch.scope()) != batch) {
+                return;
+            }
+            pending.remove(batch.scope());
+        }
+        load(batch);
+    }
+
+    private void load(Batch<E, ID> batch) {
+        batches.increment();
+        var futures = batch.futures();
+        try {
+            var entities = batch.loader().apply(List.copyOf(futures.keySet()));
+            var found = HashMap.<ID, E>newHashMap(entities.size());
+            for (var entity : entities) {
+                found.putIfAbsent(entity.getId(), entity);
+            }
+            futures.forEach((id, future) -> {
+                var entity = found.get(id);
+                if (entity == null) {
+                    future.completeExceptionally(new NotFoundEntityException(entityClass, id));
+                } else {
+                    future.complete(entity);
+                }
+            });
+        } catch (Throwable e) {
+            futures.values().forEach(future -> future.completeExceptionally(e));
+        } finally {
+            synchronized (lock) {
+                futures.forEach((id, future) -> inFlight.remove(new Key<>(batch.scope(), id)));
+            }
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key<ID>(Object scope, ID id) {
+    }
+
+    private record Batch<E, ID>(Object scope, Function<List<ID>, List<E>> loader, Map<ID, CompletableFuture<E>> futures) {
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.luidmidev.springframework.data.crud.core.exceptions;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@RequiredArgsConstructor
+@Getter
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException {
+    private final Class<?> modelClass;
+    private final transient Object id;
+}
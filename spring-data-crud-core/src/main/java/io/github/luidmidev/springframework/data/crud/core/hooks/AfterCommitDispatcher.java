@@ -0,0 +1,245 @@
+package io.github.luidmidev.springframework.data.crud.core.hooks;
+
+import io.github.luidmidev.springframework.data.crud.core.providers.AsyncExecutorProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Runs the after-commit write hooks outside of the thread that committed the transaction.
+ * <p>
+ * At most the given number of hooks run at the same time. When all of them are busy, the hooks wait in a bounded
+ * queue; when the queue is full too, the hook is rejected: it is logged, counted by {@link #getRejectedCount()} and
+ * never run. Dispatching never blocks, since it happens on the thread that committed the transaction, which may still
+ * hold its connection. With a positive batch window,
+ * the events dispatched with the same key are collected in a batch, which is passed to a single call of the hook when
+ * it reaches the maximum batch size or when the window since its first event elapses, whichever comes first.
+ * </p>
+ * <p>
+ * Hooks run without the transaction, and the security context, of the operation that dispatched them, and their
+ * failures are logged instead of being propagated, since the operation has already completed.
+ * </p>
+ * <p>
+ * Pending batches are dispatched by {@link #close()}, which Spring calls on shutdown when the dispatcher is declared as
+ * a bean.
+ * </p>
+ */
+@Slf4j
+public class AfterCommitDispatcher implements AutoCloseable {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    private static final AfterCommitDispatcher DEFAULT = new AfterCommitDispatcher(AsyncExecutorProvider.VIRTUAL_THREADS, 256, Duration.ZERO, 1);
+
+    private final Executor executor;
+    private final Executor delayedExecutor;
+    private final Semaphore permits;
+    private final BlockingQueue<Batch> queue;
+    private final int maxConcurrency;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private final Map<Object, Batch> pending = new HashMap<>();
+
+    private final LongAdder events = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public AfterCommitDispatcher(Executor executor, int maxConcurrency, Duration batchWindow, int maxBatchSize) {
+        this(executor, maxConcurrency, batchWindow, maxBatchSize, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public AfterCommitDispatcher(Executor executor, int maxConcurrency, Duration batchWindow, int maxBatchSize, int queueCapacity) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Maximum concurrency must be positive: " + maxConcurrency);
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Maximum batch size must be positive: " + maxBatchSize);
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + queueCapacity);
+        }
+        if (batchWindow != null && batchWindow.isNegative()) {
+            throw new IllegalArgumentException("Batch window must not be negative: " + batchWindow);
+        }
+        this.executor = executor;
+        this.delayedExecutor = batchWindow == null || batchWindow.isZero()
+                ? null
+                : CompletableFuture.delayedExecutor(batchWindow.toNanos(), TimeUnit.NANOSECONDS, executor);
+        this.permits = new Semaphore(maxConcurrency);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxConcurrency = maxConcurrency;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Returns the dispatcher shared by the services that do not provide their own, which runs each hook on a new
+     * virtual thread, up to 256 at the same time with up to 10000 waiting, without batching.
+     */
+    public static AfterCommitDispatcher getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Dispatches the events to the hook.
+     *
+     * @param key   the key of the batch of the events; events with equal keys must be dispatched to the same hook
+     * @param items the events
+     * @param hook  the hook that receives the events
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void dispatch(Object key, List<T> items, Consumer<List<T>> hook) {
+        if (items.isEmpty()) {
+            return;
+        }
+        events.add(items.size());
+
+        if (delayedExecutor == null) {
+            submit(new Batch((Consumer<List<Object>>) (Consumer<?>) hook, new ArrayList<>(items)));
+            return;
+        }
+
+        Batch full = null;
+        synchronized (lock) {
+            var batch = pending.get(key);
+            if (batch == null) {
+                batch = new Batch((Consumer<List<Object>>) (Consumer<?>) hook, new ArrayList<>());
+                pending.put(key, batch);
+                var scheduled = batch;
+                delayedExecutor.execute(() -> flush(key, scheduled));
+            }
+            batch.items().addAll(items);
+            if (batch.items().size() >= maxBatchSize) {
+                pending.remove(key);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            submit(full);
+        }
+    }
+
+    /**
+     * Dispatches every pending batch without waiting for its window.
+     */
+    public void flush() {
+        List<Batch> flushed;
+        synchronized (lock) {
+            flushed = List.copyOf(pending.values());
+            pending.clear();
+        }
+        flushed.forEach(this::submit);
+    }
+
+    /**
+     * Dispatches the pending batches, as {@link #flush()} does; the hooks already running are not awaited.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getEventCount() {
+        return events.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the number of batches that were never run, because the queue was full or the executor rejected them
+     */
+    public long getRejectedCount() {
+        return rejections.sum();
+    }
+
+    private void flush(Object key, Batch batch) {
+        synchronized (lock) {
+            if (pending.get(key) != batch) {
+                return;
+            }
+            pending.remove(key);
+        }
+        submit(batch);
+    }
+
+    private void submit(Batch batch) {
+        if (!queue.offer(batch)) {
+            reject(batch, null);
+            return;
+        }
+        drain();
+    }
+
+    /**
+     * Starts the queued batches while there are free slots. A finished hook releases its slot before draining, and a
+     * dispatch queues its batch before draining, so a queued batch is never left behind with a free slot.
+     */
+    private void drain() {
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            var batch = queue.poll();
+            if (batch == null) {
+                permits.release();
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        run(batch);
+                    } finally {
+                        permits.release();
+                        drain();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                reject(batch, e);
+            }
+        }
+    }
+
+    private void reject(Batch batch, RuntimeException cause) {
+        rejections.increment();
+        log.warn("After-commit hook rejected for {} events, {} hooks are queued", batch.items().size(), queue.size(), cause);
+    }
+
+    private void run(Batch batch) {
+        batches.increment();
+        try {
+            batch.hook().accept(batch.items());
+        } catch (Throwable e) {
+            failures.increment();
+            log.warn("After-commit hook failed for {} events", batch.items().size(), e);
+        }
+    }
+
+    private record Batch(Consumer<List<Object>> hook, List<Object> items) {
+    }
+}
@@ -2,6 +2,8 @@ package io.github.luidmidev.springframework.data.crud.core.hooks;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
 /**
  * Interface for read operation hooks.
@@ -96,4 +98,28 @@ public interface ReadHooks<E extends Persistable<ID>, ID> {
      */
     default void onPage(Page<E> page) {
     }
+
+    /**
+     * Hook to be executed after slicing a collection of entities.
+     * <p>
+     * This method can be overridden to perform custom logic after a slice of entities is retrieved
+     * without counting the total number of entities.
+     * </p>
+     *
+     * @param slice The slice of entities.
+     */
+    default void onSlice(Slice<E> slice) {
+    }
+
+    /**
+     * Hook to be executed after scrolling a window of entities.
+     * <p>
+     * This method can be overridden to perform custom logic after a window of entities is retrieved
+     * with keyset pagination.
+     * </p>
+     *
+     * @param window The window of entities.
+     */
+    default void onScroll(Window<E> window) {
+    }
 }
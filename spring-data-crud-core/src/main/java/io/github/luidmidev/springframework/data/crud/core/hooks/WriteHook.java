@@ -0,0 +1,55 @@
+package io.github.luidmidev.springframework.data.crud.core.hooks;
+
+import org.springframework.data.domain.Persistable;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * The {@link WriteHooks} methods whose overriding changes how the write operations run, such as loading each entity
+ * before it is deleted. Whether a hooks class overrides them is resolved by reflection once per class.
+ */
+public enum WriteHook {
+
+    BEFORE_DELETE("onBeforeDelete", Persistable.class),
+    AFTER_DELETE("onAfterDelete", Persistable.class),
+    AFTER_COMMIT_CREATE("onAfterCommitCreate", List.class),
+    AFTER_COMMIT_UPDATE("onAfterCommitUpdate", List.class),
+    AFTER_COMMIT_DELETE("onAfterCommitDelete", List.class);
+
+    private static final ClassValue<EnumSet<WriteHook>> OVERRIDDEN = new ClassValue<>() {
+        @Override
+        protected EnumSet<WriteHook> computeValue(Class<?> type) {
+            var overridden = EnumSet.noneOf(WriteHook.class);
+            for (var hook : values()) {
+                if (hook.isOverriddenBy(type)) {
+                    overridden.add(hook);
+                }
+            }
+            return overridden;
+        }
+    };
+
+    private final String methodName;
+    private final Class<?> parameterType;
+
+    WriteHook(String methodName, Class<?> parameterType) {
+        this.methodName = methodName;
+        this.parameterType = parameterType;
+    }
+
+    /**
+     * Whether the class of the hooks overrides the default, empty implementation of this hook.
+     */
+    public boolean isOverriddenBy(WriteHooks<?, ?, ?> hooks) {
+        return OVERRIDDEN.get(hooks.getClass()).contains(this);
+    }
+
+    private boolean isOverriddenBy(Class<?> type) {
+        try {
+            return type.getMethod(methodName, parameterType).getDeclaringClass() != WriteHooks.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package io.github.luidmidev.springframework.data.crud.core.hooks;
 
 import org.springframework.data.domain.Persistable;
 
+import java.util.List;
+
 /**
  * Interface for write operation hooks.
  * <p>
@@ -53,6 +55,22 @@ public interface WriteHooks<E extends Persistable<ID>, D, ID> {
     default void onBeforeCreate(D dto, E model) {
     }
 
+    /**
+     * Hook to be executed before creating a batch of entities.
+     * <p>
+     * By default, {@link #onBeforeCreate(Object, Persistable)} is invoked for each DTO and entity pair. This method
+     * can be overridden to process the whole batch at once.
+     * </p>
+     *
+     * @param dtos The data transfer objects (DTOs) containing data for the entities.
+     * @param models The entity models to be created, in the same order as the DTOs.
+     */
+    default void onBeforeCreate(List<D> dtos, List<E> models) {
+        for (var i = 0; i < dtos.size(); i++) {
+            onBeforeCreate(dtos.get(i), models.get(i));
+        }
+    }
+
     /**
      * Hook to be executed before updating an entity.
      * <p>
@@ -88,6 +106,22 @@ public interface WriteHooks<E extends Persistable<ID>, D, ID> {
     default void onAfterCreate(D dto, E model) {
     }
 
+    /**
+     * Hook to be executed after creating a batch of entities.
+     * <p>
+     * By default, {@link #onAfterCreate(Object, Persistable)} is invoked for each DTO and entity pair. This method
+     * can be overridden to process the whole batch at once.
+     * </p>
+     *
+     * @param dtos The data transfer objects (DTOs) used to create the entities.
+     * @param models The entity models that were created, in the same order as the DTOs.
+     */
+    default void onAfterCreate(List<D> dtos, List<E> models) {
+        for (var i = 0; i < dtos.size(); i++) {
+            onAfterCreate(dtos.get(i), models.get(i));
+        }
+    }
+
     /**
      * Hook to be executed after updating an entity.
      * <p>
@@ -110,4 +144,41 @@ public interface WriteHooks<E extends Persistable<ID>, D, ID> {
      */
     default void onAfterDelete(E model) {
     }
+
+    /**
+     * Hook to be executed after the transaction that created entities commits.
+     * <p>
+     * Unlike {@link #onAfterCreate(Object, Persistable)}, it runs outside of the transaction, on the executor of the
+     * service's {@link AfterCommitDispatcher}, so slow side effects such as notifications or reindexing do not hold
+     * database locks and connections. It is not run if the transaction rolls back, and the entities of several
+     * operations may be passed at once when the dispatcher batches them. The entities may be detached, so their lazy
+     * associations should not be accessed.
+     * </p>
+     *
+     * @param models The entity models that were created.
+     */
+    default void onAfterCommitCreate(List<E> models) {
+    }
+
+    /**
+     * Hook to be executed after the transaction that updated entities commits.
+     * <p>
+     * It runs outside of the transaction, like {@link #onAfterCommitCreate(List)}.
+     * </p>
+     *
+     * @param models The entity models that were updated.
+     */
+    default void onAfterCommitUpdate(List<E> models) {
+    }
+
+    /**
+     * Hook to be executed after the transaction that deleted entities commits.
+     * <p>
+     * It runs outside of the transaction, like {@link #onAfterCommitCreate(List)}.
+     * </p>
+     *
+     * @param models The entity models that were deleted.
+     */
+    default void onAfterCommitDelete(List<E> models) {
+    }
 }
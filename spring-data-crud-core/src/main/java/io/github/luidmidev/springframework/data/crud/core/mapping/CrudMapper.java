@@ -0,0 +1,41 @@
+package io.github.luidmidev.springframework.data.crud.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates, at compile time, a mapper from the annotated DTO to an entity.
+ * <p>
+ * The {@code spring-data-crud-processor} annotation processor generates a class named after the DTO with the
+ * {@code Mapper} suffix (e.g. {@code FooDtoMapper} for {@code FooDto}) in the same package, with the static methods:
+ * </p>
+ * <ul>
+ *     <li>{@code mapModel(dto, model)}: copies every property of the DTO to the entity.</li>
+ *     <li>{@code mapModelIgnoringNulls(dto, model)}: copies only the properties whose value is not {@code null}.</li>
+ *     <li>{@code patchModel(dto, model, fields)}: copies only the properties whose name is in {@code fields}.</li>
+ * </ul>
+ * <p>
+ * A property is mapped when the DTO has a getter (or a record component, or a public field) and the entity has
+ * a setter (or a public field) with the same name and an assignable type. Accessors generated by Lombok are
+ * supported. The generated code calls the accessors directly, so no reflection is used at runtime. The generated
+ * methods are meant to back {@code WriteService#mapModel} and {@code WriteService#patchModel}.
+ * </p>
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface CrudMapper {
+
+    /**
+     * The entity the DTO is mapped to.
+     */
+    Class<?> entity();
+
+    /**
+     * Names of the DTO properties that are never copied to the entity.
+     */
+    String[] ignore() default {};
+}
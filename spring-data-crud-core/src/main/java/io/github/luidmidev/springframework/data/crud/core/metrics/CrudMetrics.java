@@ -0,0 +1,60 @@
+package io.github.luidmidev.springframework.data.crud.core.metrics;
+
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
+import io.github.luidmidev.springframework.data.crud.core.providers.EntityClassProvider;
+import lombok.experimental.UtilityClass;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Holds the {@link CrudMetricsRecorder recorders} shared by every service. They are added by the autoconfiguration,
+ * e.g. when Micrometer is present; without recorders, operations are not timed.
+ */
+@UtilityClass
+public final class CrudMetrics {
+
+    private static final List<CrudMetricsRecorder> recorders = new CopyOnWriteArrayList<>();
+    private static volatile CrudMetricsRecorder recorder;
+
+    public static synchronized void addRecorder(CrudMetricsRecorder added) {
+        recorders.add(added);
+        recorder = combine(recorders);
+    }
+
+    public static synchronized void removeRecorder(CrudMetricsRecorder removed) {
+        recorders.remove(removed);
+        recorder = combine(recorders);
+    }
+
+    public static List<CrudMetricsRecorder> getRecorders() {
+        return List.copyOf(recorders);
+    }
+
+    public static CrudSample start(Object crud, CrudOperation operation) {
+        var current = recorder;
+        if (current == null) {
+            return CrudSample.NOOP;
+        }
+        var entityClass = crud instanceof EntityClassProvider<?> provider
+                ? provider.getEntityClass()
+                : ClassUtils.getUserClass(crud);
+        return new CrudSample(current, entityClass, operation);
+    }
+
+    private static CrudMetricsRecorder combine(List<CrudMetricsRecorder> recorders) {
+        if (recorders.isEmpty()) {
+            return null;
+        }
+        if (recorders.size() == 1) {
+            return recorders.getFirst();
+        }
+        var snapshot = List.copyOf(recorders);
+        return sample -> {
+            for (var each : snapshot) {
+                each.record(sample);
+            }
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.luidmidev.springframework.data.crud.core.metrics;
+
+/**
+ * Receives the {@link CrudSample} of every CRUD operation when it ends.
+ */
+@FunctionalInterface
+public interface CrudMetricsRecorder {
+
+    void record(CrudSample sample);
+}
@@ -0,0 +1,29 @@
+package io.github.luidmidev.springframework.data.crud.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Binds the CRUD operations to Micrometer registries, by adding a {@link MicrometerCrudMetricsRecorder} of each one to
+ * {@link CrudMetrics}. The recorders are removed by {@link #stop()}, so a closed context stops recording into its
+ * registries.
+ */
+public class CrudOperationMetrics implements MeterBinder {
+
+    private final List<CrudMetricsRecorder> recorders = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        var recorder = new MicrometerCrudMetricsRecorder(registry);
+        recorders.add(recorder);
+        CrudMetrics.addRecorder(recorder);
+    }
+
+    public void stop() {
+        recorders.forEach(CrudMetrics::removeRecorder);
+        recorders.clear();
+    }
+}
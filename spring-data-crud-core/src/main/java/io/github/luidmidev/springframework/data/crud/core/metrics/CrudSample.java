@@ -0,0 +1,233 @@
+package io.github.luidmidev.springframework.data.crud.core.metrics;
+
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.function.Supplier;
+
+/**
+ * Timing of a single CRUD operation, started by {@code Crud.preProccess} and recorded by {@link CrudMetrics} when it
+ * ends.
+ * <p>
+ * The total time spans from the start of the sample to the end of {@link #record(Supplier)}, and includes the
+ * authorization, query and hooks phases, which are accumulated separately when an operation enters them more than
+ * once (e.g. the before and after hooks of a write). A phase that was never entered reports {@code -1}. When no
+ * recorder is configured, {@link #NOOP} is used and the phases just run their actions.
+ * </p>
+ */
+public final class CrudSample {
+
+    public static final CrudSample NOOP = new CrudSample(null, null, null);
+
+    private final CrudMetricsRecorder recorder;
+    private final Class<?> entityClass;
+    private final CrudOperation operation;
+    private final long start;
+
+    private long authorizationNanos = -1;
+    private long queryNanos = -1;
+    private long hooksNanos = -1;
+    private long totalNanos = -1;
+    private int resultSize = -1;
+    private Throwable error;
+
+    private String search;
+    private Node query;
+    private Pageable pageable;
+    private Sort sort;
+
+    CrudSample(CrudMetricsRecorder recorder, Class<?> entityClass, CrudOperation operation) {
+        this.recorder = recorder;
+        this.entityClass = entityClass;
+        this.operation = operation;
+        this.start = recorder == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Runs the authorization of the operation. If it fails, the operation ends, and the sample is recorded with the
+     * error.
+     */
+    public void authorization(Runnable action) {
+        if (recorder == null) {
+            action.run();
+            return;
+        }
+        var phaseStart = System.nanoTime();
+        try {
+            action.run();
+            authorizationNanos = accumulate(authorizationNanos, phaseStart);
+        } catch (RuntimeException | Error e) {
+            authorizationNanos = accumulate(authorizationNanos, phaseStart);
+            error = e;
+            stop();
+            throw e;
+        }
+    }
+
+    public <T> T query(Supplier<T> action) {
+        if (recorder == null) {
+            return action.get();
+        }
+        var phaseStart = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            queryNanos = accumulate(queryNanos, phaseStart);
+        }
+    }
+
+    public void query(Runnable action) {
+        query(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public void hooks(Runnable action) {
+        if (recorder == null) {
+            action.run();
+            return;
+        }
+        var phaseStart = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            hooksNanos = accumulate(hooksNanos, phaseStart);
+        }
+    }
+
+    /**
+     * Sets the search, RSQL query and page requested by the operation, so recorders can tell which request made it
+     * slow.
+     */
+    public void context(String search, Node query, Pageable pageable) {
+        if (recorder != null) {
+            this.search = search;
+            this.query = query;
+            this.pageable = pageable;
+            this.sort = pageable.getSort();
+        }
+    }
+
+    /**
+     * Sets the search, RSQL query and sort requested by an unpaged operation.
+     */
+    public void context(String search, Node query, Sort sort) {
+        if (recorder != null) {
+            this.search = search;
+            this.query = query;
+            this.sort = sort;
+        }
+    }
+
+    /**
+     * Sets the number of entities returned by the operation, for the operations that return many.
+     */
+    public void resultSize(int size) {
+        if (recorder != null) {
+            this.resultSize = size;
+        }
+    }
+
+    /**
+     * Runs the rest of the operation and records the sample once it returns or fails.
+     *
+     * @param operation the rest of the operation
+     * @return the result of the operation
+     */
+    public <T> T record(Supplier<T> operation) {
+        if (recorder == null) {
+            return operation.get();
+        }
+        try {
+            return operation.get();
+        } catch (RuntimeException | Error e) {
+            error = e;
+            throw e;
+        } finally {
+            stop();
+        }
+    }
+
+    public void record(Runnable operation) {
+        record(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private void stop() {
+        totalNanos = System.nanoTime() - start;
+        recorder.record(this);
+    }
+
+    private static long accumulate(long nanos, long phaseStart) {
+        var elapsed = System.nanoTime() - phaseStart;
+        return nanos < 0 ? elapsed : nanos + elapsed;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public CrudOperation getOperation() {
+        return operation;
+    }
+
+    public long getAuthorizationNanos() {
+        return authorizationNanos;
+    }
+
+    public long getQueryNanos() {
+        return queryNanos;
+    }
+
+    public long getHooksNanos() {
+        return hooksNanos;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public int getResultSize() {
+        return resultSize;
+    }
+
+    /**
+     * @return the normalized search of the operation, or {@code null} if it has none
+     */
+    public String getSearch() {
+        return search;
+    }
+
+    /**
+     * @return the RSQL query of the operation, or {@code null} if it has none
+     */
+    public Node getQuery() {
+        return query;
+    }
+
+    /**
+     * @return the page requested by the operation, or {@code null} if it is not paged
+     */
+    public Pageable getPageable() {
+        return pageable;
+    }
+
+    /**
+     * @return the sort requested by the operation, or {@code null} if none was set
+     */
+    public Sort getSort() {
+        return sort;
+    }
+
+    /**
+     * @return the exception that ended the operation, or {@code null} if it succeeded
+     */
+    public Throwable getError() {
+        return error;
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.luidmidev.springframework.data.crud.core.metrics;
+
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the samples of CRUD operations as Micrometer meters:
+ * <ul>
+ *     <li>{@code crud.operation}: timer of each operation, tagged by {@code entity}, {@code operation},
+ *     {@code phase} ({@code total}, {@code authorization}, {@code query} or {@code hooks}), {@code outcome}
+ *     ({@code success} or {@code error}) and {@code exception}.</li>
+ *     <li>{@code crud.operation.results}: distribution of the number of entities returned by the operations that
+ *     return many, tagged by {@code entity} and {@code operation}.</li>
+ * </ul>
+ */
+public class MicrometerCrudMetricsRecorder implements CrudMetricsRecorder {
+
+    public static final String TIMER_NAME = "crud.operation";
+    public static final String RESULTS_NAME = "crud.operation.results";
+
+    private final MeterRegistry registry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<SummaryKey, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public MicrometerCrudMetricsRecorder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void record(CrudSample sample) {
+        var entityClass = sample.getEntityClass();
+        var operation = sample.getOperation();
+        var error = sample.getError();
+        var exception = error == null ? "none" : error.getClass().getSimpleName();
+
+        record(entityClass, operation, "total", exception, sample.getTotalNanos());
+        record(entityClass, operation, "authorization", exception, sample.getAuthorizationNanos());
+        record(entityClass, operation, "query", exception, sample.getQueryNanos());
+        record(entityClass, operation, "hooks", exception, sample.getHooksNanos());
+
+        if (sample.getResultSize() >= 0) {
+            summaries.computeIfAbsent(new SummaryKey(entityClass, operation), key -> DistributionSummary.builder(RESULTS_NAME)
+                            .description("Number of entities returned by CRUD operations")
+                            .baseUnit("entities")
+                            .tags(entityTags(key.entityClass(), key.operation()))
+                            .register(registry))
+                    .record(sample.getResultSize());
+        }
+    }
+
+    private void record(Class<?> entityClass, CrudOperation operation, String phase, String exception, long nanos) {
+        if (nanos < 0) {
+            return;
+        }
+        timers.computeIfAbsent(new TimerKey(entityClass, operation, phase, exception), key -> Timer.builder(TIMER_NAME)
+                        .description("Time spent in CRUD operations")
+                        .tags(entityTags(key.entityClass(), key.operation()))
+                        .tag("phase", key.phase())
+                        .tag("outcome", "none".equals(key.exception()) ? "success" : "error")
+                        .tag("exception", key.exception())
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Tags entityTags(Class<?> entityClass, CrudOperation operation) {
+        return Tags.of(
+                "entity", entityClass.getSimpleName(),
+                "operation", operation.name().toLowerCase(Locale.ROOT)
+        );
+    }
+
+    private record TimerKey(Class<?> entityClass, CrudOperation operation, String phase, String exception) {
+    }
+
+    private record SummaryKey(Class<?> entityClass, CrudOperation operation) {
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.luidmidev.springframework.data.crud.core.metrics;
+
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Logs the CRUD operations slower than a threshold, and keeps the slowest recent shapes of them.
+ * <p>
+ * A slow operation is logged with its entity, operation, normalized search, RSQL query, page request and the time of
+ * each phase; only the given fraction of them is logged, so a slow endpoint under load does not flood the log. Every
+ * slow operation is aggregated by its shape: the entity, the operation, whether it searched, the RSQL query with its
+ * arguments replaced by {@code ?}, and the sort. The most recently seen shapes are kept, up to a maximum, so
+ * {@link #getSlowest(int)} tells which kind of request needs an index.
+ * </p>
+ */
+@Slf4j
+public class SlowCrudOperations implements CrudMetricsRecorder {
+
+    private final long thresholdNanos;
+    private final double logSampleRate;
+    private final int maximumShapes;
+    private final Map<Shape, ShapeStatistics> shapes;
+
+    public SlowCrudOperations(Duration threshold, double logSampleRate, int maximumShapes) {
+        if (threshold == null || threshold.isNegative()) {
+            throw new IllegalArgumentException("Threshold must not be negative: " + threshold);
+        }
+        if (logSampleRate < 0 || logSampleRate > 1) {
+            throw new IllegalArgumentException("Log sample rate must be between 0 and 1: " + logSampleRate);
+        }
+        if (maximumShapes <= 0) {
+            throw new IllegalArgumentException("Maximum shapes must be positive: " + maximumShapes);
+        }
+        this.thresholdNanos = threshold.toNanos();
+        this.logSampleRate = logSampleRate;
+        this.maximumShapes = maximumShapes;
+        this.shapes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Shape, ShapeStatistics> eldest) {
+                return size() > SlowCrudOperations.this.maximumShapes;
+            }
+        };
+    }
+
+    @Override
+    public void record(CrudSample sample) {
+        if (sample.getTotalNanos() < thresholdNanos) {
+            return;
+        }
+
+        if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate && log.isWarnEnabled()) {
+            log.warn("Slow {} of {} took {} ms (authorization {} ms, query {} ms, hooks {} ms): search={}, query={}, pageable={}, sort={}, error={}",
+                    sample.getOperation(),
+                    sample.getEntityClass().getSimpleName(),
+                    millis(sample.getTotalNanos()),
+                    millis(sample.getAuthorizationNanos()),
+                    millis(sample.getQueryNanos()),
+                    millis(sample.getHooksNanos()),
+                    sample.getSearch(),
+                    sample.getQuery(),
+                    sample.getPageable(),
+                    sample.getSort(),
+                    sample.getError() == null ? null : sample.getError().getClass().getSimpleName()
+            );
+        }
+
+        var shape = new Shape(
+                sample.getEntityClass().getSimpleName(),
+                sample.getOperation(),
+                sample.getSearch() != null,
+                sample.getQuery() == null ? null : shape(sample.getQuery()),
+                sample.getSort() == null || sample.getSort().isUnsorted() ? null : sample.getSort().toString()
+        );
+        var example = example(sample);
+        synchronized (shapes) {
+            shapes.computeIfAbsent(shape, key -> new ShapeStatistics()).add(sample.getTotalNanos(), example);
+        }
+    }
+
+    /**
+     * Returns the slowest shapes among the recent slow operations, by their maximum time.
+     *
+     * @param limit the maximum number of shapes returned
+     * @return the shapes, slowest first
+     */
+    public List<SlowOperation> getSlowest(int limit) {
+        synchronized (shapes) {
+            return shapes.entrySet().stream()
+                    .map(entry -> entry.getValue().toSlowOperation(entry.getKey()))
+                    .sorted(Comparator.comparing(SlowOperation::max).reversed())
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    public void clear() {
+        synchronized (shapes) {
+            shapes.clear();
+        }
+    }
+
+    public Duration getThreshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    /**
+     * Registers this as a recorder of every CRUD operation.
+     */
+    public void start() {
+        CrudMetrics.addRecorder(this);
+    }
+
+    public void stop() {
+        CrudMetrics.removeRecorder(this);
+    }
+
+    private static String example(CrudSample sample) {
+        var parts = new StringBuilder();
+        if (sample.getSearch() != null) {
+            parts.append("search=").append(sample.getSearch()).append(' ');
+        }
+        if (sample.getQuery() != null) {
+            parts.append("query=").append(sample.getQuery()).append(' ');
+        }
+        if (sample.getPageable() != null && sample.getPageable().isPaged()) {
+            parts.append("page=").append(sample.getPageable().getPageNumber())
+                    .append(" size=").append(sample.getPageable().getPageSize());
+        }
+        return parts.toString().trim();
+    }
+
+    /**
+     * Serializes an RSQL node with its arguments replaced by {@code ?}, so queries that only differ in their values
+     * share a shape.
+     */
+    static String shape(Node node) {
+        if (node instanceof ComparisonNode comparison) {
+            var arguments = comparison.getOperator().isMultiValue() ? "(?)" : "?";
+            return comparison.getSelector() + comparison.getOperator().getSymbol() + arguments;
+        }
+        if (node instanceof LogicalNode logical) {
+            return logical.getChildren().stream()
+                    .map(SlowCrudOperations::shape)
+                    .collect(Collectors.joining(logical.getOperator().toString(), "(", ")"));
+        }
+        return String.valueOf(node);
+    }
+
+    private static long millis(long nanos) {
+        return nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private record Shape(String entity, CrudOperation operation, boolean search, String query, String sort) {
+    }
+
+    /**
+     * Statistics of the slow operations of a shape.
+     *
+     * @param entity    the simple name of the entity
+     * @param operation the operation
+     * @param search    whether the operations searched
+     * @param query     the RSQL query with its arguments replaced by {@code ?}
+     * @param sort      the sort
+     * @param count     the number of slow operations
+     * @param max       the time of the slowest operation
+     * @param mean      the mean time of the slow operations
+     * @param lastSeen  when the last slow operation ended
+     * @param example   the search, query and page of the slowest operation
+     */
+    public record SlowOperation(String entity, CrudOperation operation, boolean search, String query, String sort,
+                                long count, Duration max, Duration mean, Instant lastSeen, String example) {
+    }
+
+    private static final class ShapeStatistics {
+        private long count;
+        private long totalNanos;
+        private long maxNanos = -1;
+        private Instant lastSeen;
+        private String example;
+
+        void add(long nanos, String example) {
+            count++;
+            totalNanos += nanos;
+            lastSeen = Instant.now();
+            if (nanos > maxNanos) {
+                maxNanos = nanos;
+                this.example = example;
+            }
+        }
+
+        SlowOperation toSlowOperation(Shape shape) {
+            return new SlowOperation(
+                    shape.entity(),
+                    shape.operation(),
+                    shape.search(),
+                    shape.query(),
+                    shape.sort(),
+                    count,
+                    Duration.ofNanos(maxNanos),
+                    Duration.ofNanos(totalNanos / count),
+                    lastSeen,
+                    example
+            );
+        }
+    }
+}
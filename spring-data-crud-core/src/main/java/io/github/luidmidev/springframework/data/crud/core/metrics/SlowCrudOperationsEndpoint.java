@@ -0,0 +1,33 @@
+package io.github.luidmidev.springframework.data.crud.core.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the slowest recent shapes of CRUD operations recorded by {@link SlowCrudOperations}.
+ */
+@Endpoint(id = "crudslowoperations")
+public class SlowCrudOperationsEndpoint {
+
+    private final SlowCrudOperations slowOperations;
+    private final int defaultLimit;
+
+    public SlowCrudOperationsEndpoint(SlowCrudOperations slowOperations, int defaultLimit) {
+        this.slowOperations = slowOperations;
+        this.defaultLimit = defaultLimit;
+    }
+
+    @ReadOperation
+    public List<SlowCrudOperations.SlowOperation> slowest(@Nullable Integer limit) {
+        return slowOperations.getSlowest(limit == null ? defaultLimit : limit);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowOperations.clear();
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.luidmidev.springframework.data.crud.core.providers;
+
+import io.github.luidmidev.springframework.data.crud.core.hooks.AfterCommitDispatcher;
+
+public interface AfterCommitDispatcherProvider {
+
+    /**
+     * Dispatcher of the after-commit write hooks. Defaults to the shared dispatcher, which runs each hook on a new
+     * virtual thread without batching. Returns {@code null} to run the after-commit hooks on the thread that committed
+     * the transaction. A dispatcher with a batch window should be declared as a bean, so its pending batches are
+     * dispatched when the application shuts down.
+     */
+    default AfterCommitDispatcher getAfterCommitDispatcher() {
+        return AfterCommitDispatcher.getDefault();
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.luidmidev.springframework.data.crud.core.providers;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+public interface AsyncExecutorProvider {
+
+    /**
+     * Starts each command in a new virtual thread, numbered by a single shared factory ({@code crud-async-0},
+     * {@code crud-async-1}, ...).
+     */
+    Executor VIRTUAL_THREADS = new Executor() {
+
+        private final ThreadFactory factory = Thread.ofVirtual().name("crud-async-", 0).factory();
+
+        @Override
+        public void execute(Runnable command) {
+            factory.newThread(command).start();
+        }
+    };
+
+    /**
+     * Executor of the {@code *Async} operations. Defaults to a new virtual thread per operation, so blocking database
+     * calls do not hold platform threads.
+     */
+    default Executor getAsyncExecutor() {
+        return VIRTUAL_THREADS;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.luidmidev.springframework.data.crud.core.providers;
+
+import io.github.luidmidev.springframework.data.crud.core.cache.EntityCache;
+import org.springframework.data.domain.Persistable;
+
+public interface EntityCacheProvider<E extends Persistable<ID>, ID> {
+
+    /**
+     * Cache used by {@code find} and {@code exists}, and invalidated by the write operations after their transaction
+     * commits. A read service and a write service of the same entity must return the same instance. Calls made while
+     * a session or a transaction is bound to the thread bypass the cache, so managed entities, whose state may not be
+     * committed, are never shared; with JPA, open-in-view binds one to every web request, so it must be disabled for
+     * the cache to serve them. Returns {@code null} by default, which disables caching.
+     */
+    default EntityCache<E, ID> getEntityCache() {
+        return null;
+    }
+}
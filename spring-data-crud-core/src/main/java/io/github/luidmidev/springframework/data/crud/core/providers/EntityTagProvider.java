@@ -0,0 +1,27 @@
+package io.github.luidmidev.springframework.data.crud.core.providers;
+
+import io.github.luidmidev.springframework.data.crud.core.utils.EntityTagUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Persistable;
+
+public interface EntityTagProvider<M extends Persistable<?>> {
+
+    /**
+     * Strong entity tag of the entity, sent in the {@code ETag} header and compared with the {@code If-None-Match}
+     * and {@code If-Match} headers. Defaults to a tag derived from the version of the entity, or {@code null}, which
+     * sends no tag, if it has no version. Override it to return {@link EntityTagUtils#hash(Object)} to tag entities
+     * without version, at the cost of serializing them once more.
+     */
+    default String getEntityTag(M entity) {
+        return EntityTagUtils.of(entity);
+    }
+
+    /**
+     * Entity tag of the page, sent in the {@code ETag} header and compared with the {@code If-None-Match} header.
+     * Defaults to a weak tag derived from the ids and versions of its entities, which does not cover their
+     * associations, or {@code null} if any of them has no version.
+     */
+    default String getEntityTag(Page<M> page) {
+        return EntityTagUtils.of(page);
+    }
+}
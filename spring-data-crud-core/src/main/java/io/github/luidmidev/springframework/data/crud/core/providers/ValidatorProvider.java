@@ -0,0 +1,16 @@
+package io.github.luidmidev.springframework.data.crud.core.providers;
+
+import io.github.luidmidev.springframework.data.crud.core.utils.ValidatorUtils;
+import jakarta.validation.Validator;
+
+public interface ValidatorProvider {
+
+    /**
+     * Validator of the DTO properties present in a patch, which skips the method validation of the whole DTO. Defaults
+     * to a validator of the default validation provider, or {@code null} if there is no provider on the classpath,
+     * which does not validate patches. Override it to return the {@link Validator} bean of the application.
+     */
+    default Validator getValidator() {
+        return ValidatorUtils.getDefaultValidator();
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.luidmidev.springframework.data.crud.core.rsql;
+
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.cache.BoundedCache;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of parsed RSQL queries keyed by the raw query string.
+ * <p>
+ * Parsed {@link Node} trees are immutable, so the same instance can be shared by every request that sends the same
+ * query. The least recently used entry is evicted when the cache is full, and entries older than the time to live
+ * are parsed again on their next access. Queries that fail to parse are never cached.
+ * </p>
+ */
+public class RsqlNodeCache extends BoundedCache<String, Node> {
+
+    public RsqlNodeCache(int maximumSize, Duration timeToLive) {
+        super(maximumSize, timeToLive);
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.luidmidev.springframework.data.crud.core.utils;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Persistable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Computes entity tags of entities and pages of entities.
+ * <p>
+ * The strong tag of an entity with a version property, annotated with Spring Data's or JPA's {@code @Version}, is
+ * derived from its version, so it is computed without serializing the entity. It assumes the representation of an
+ * entity only changes when its version does. The tag of a page is derived from the ids and versions of its entities
+ * and its total, so it does not change with the associations serialized with the entities, which do not increment
+ * their version; it is therefore weak, only fit for the {@code If-None-Match} revalidation of the page. Entities
+ * without version have no tag, unless it is computed with {@link #hash(Object)}, which serializes the value.
+ * </p>
+ */
+@UtilityClass
+public final class EntityTagUtils {
+
+    private static final String JPA_VERSION = "jakarta.persistence.Version";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private static final ClassValue<Optional<Field>> VERSION_FIELDS = new ClassValue<>() {
+        @Override
+        protected Optional<Field> computeValue(Class<?> type) {
+            var found = new Field[1];
+            ReflectionUtils.doWithFields(type, field -> {
+                if (found[0] == null && isVersion(field)) {
+                    ReflectionUtils.makeAccessible(field);
+                    found[0] = field;
+                }
+            });
+            return Optional.ofNullable(found[0]);
+        }
+    };
+
+    /**
+     * @param entity the entity
+     * @return the tag derived from the version of the entity, or {@code null} if it has no version
+     */
+    public static String of(Object entity) {
+        var version = version(entity);
+        return version == null ? null : quote(version.toString());
+    }
+
+    /**
+     * @param page the page of entities
+     * @return the weak tag derived from the ids and versions of the entities, or {@code null} if any of them has no
+     * version
+     */
+    public static String of(Page<? extends Persistable<?>> page) {
+        var builder = new StringBuilder().append(page.getTotalElements());
+        for (var entity : page) {
+            var version = version(entity);
+            if (version == null) {
+                return null;
+            }
+            builder.append(';').append(entity.getId()).append(':').append(version);
+        }
+        return "W/" + quote(DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param value the value
+     * @return the tag derived from the JSON serialization of the value, or {@code null} if it cannot be serialized
+     */
+    public static String hash(Object value) {
+        try {
+            return quote(DigestUtils.md5DigestAsHex(MAPPER.writeValueAsBytes(value)));
+        } catch (JacksonException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether the tag satisfies an {@code If-Match} precondition, with the strong comparison of RFC 9110.
+     *
+     * @param ifMatch the tags of the {@code If-Match} header
+     * @param tag     the current tag, or {@code null} if there is none
+     * @return {@code true} if the header contains {@code *} or the tag
+     */
+    public static boolean matches(Collection<String> ifMatch, String tag) {
+        for (var candidate : ifMatch) {
+            var trimmed = candidate.trim();
+            if (trimmed.equals("*") || (tag != null && !trimmed.startsWith("W/") && trimmed.equals(tag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object version(Object entity) {
+        if (entity == null) {
+            return null;
+        }
+        return VERSION_FIELDS.get(ClassUtils.getUserClass(entity))
+                .map(field -> ReflectionUtils.getField(field, entity))
+                .orElse(null);
+    }
+
+    private static boolean isVersion(Field field) {
+        return field.isAnnotationPresent(Version.class)
+                || Arrays.stream(field.getAnnotations()).anyMatch(annotation -> annotation.annotationType().getName().equals(JPA_VERSION));
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.luidmidev.springframework.data.crud.core.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+
+/**
+ * Creates instances through the no-arguments constructor of a class, resolving the constructor only once per class.
+ * <p>
+ * The constructor is bound to a {@link Supplier} generated with {@link LambdaMetafactory}, which the JIT can inline
+ * like a regular {@code new} expression. When the class cannot be accessed that way (e.g. it is loaded by another
+ * module), the supplier falls back to invoking a {@link MethodHandle} of the constructor.
+ * </p>
+ */
+@UtilityClass
+public final class InstantiationUtils {
+
+    private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Supplier.class);
+    private static final MethodType GET_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class);
+
+    private static final ClassValue<Supplier<?>> INSTANTIATORS = new ClassValue<>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            return createInstantiator(type);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> instantiator(Class<T> type) {
+        return (Supplier<T>) INSTANTIATORS.get(type);
+    }
+
+    public static <T> T newInstance(Class<T> type) {
+        return instantiator(type).get();
+    }
+
+    private static Supplier<?> createInstantiator(Class<?> type) {
+        try {
+            var lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            var constructor = lookup.findConstructor(type, CONSTRUCTOR_TYPE);
+            try {
+                var site = LambdaMetafactory.metafactory(lookup, "get", SUPPLIER_TYPE, GET_TYPE, constructor, MethodType.methodType(type));
+                return (Supplier<?>) site.getTarget().invokeExact();
+            } catch (Throwable e) {
+                return invoking(constructor);
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return invokingPublic(type);
+        }
+    }
+
+    private static Supplier<?> invokingPublic(Class<?> type) {
+        try {
+            return invoking(MethodHandles.publicLookup().findConstructor(type, CONSTRUCTOR_TYPE));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("No accessible no-arguments constructor found for " + type.getName(), e);
+        }
+    }
+
+    private static Supplier<?> invoking(MethodHandle constructor) {
+        return () -> {
+            try {
+                return constructor.invoke();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Could not instantiate " + constructor.type().returnType().getName(), e);
+            }
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.luidmidev.springframework.data.crud.core.utils;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Persistable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Loads entities by id in bounded chunks.
+ * <p>
+ * The ids are deduplicated and split in chunks of at most the given size, so a query never exceeds the bind
+ * parameter limit of the database (e.g. 1000 in Oracle, 2100 in SQL Server). The last chunk is padded to the next
+ * power of two (without exceeding the chunk size) by repeating its last id, so the {@code IN} lists only take a few
+ * distinct sizes and their statements are reused from the plan and statement caches. The entities are returned in
+ * the order of their ids, once per distinct id; ids without entity are skipped.
+ * </p>
+ */
+@UtilityClass
+public final class MultiGetUtils {
+
+    /**
+     * @param ids       the ids of the entities
+     * @param chunkSize the maximum number of ids passed to a single call of the loader
+     * @param executor  the executor used to load the chunks concurrently, or {@code null} to load them one after another
+     * @param loader    the function that loads the entities of a chunk of ids
+     * @return the entities, in the order of their ids
+     */
+    public static <E extends Persistable<ID>, ID> List<E> findAll(List<ID> ids, int chunkSize, Executor executor, Function<List<ID>, List<E>> loader) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        var distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.remove(null);
+        if (distinct.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        var chunks = new ArrayList<List<ID>>();
+        for (var from = 0; from < distinct.size(); from += chunkSize) {
+            chunks.add(pad(distinct.subList(from, Math.min(from + chunkSize, distinct.size())), chunkSize));
+        }
+
+        var found = HashMap.<ID, E>newHashMap(distinct.size());
+        if (executor == null || chunks.size() == 1) {
+            for (var chunk : chunks) {
+                collect(loader.apply(chunk), found);
+            }
+        } else {
+            var futures = chunks.stream()
+                    .map(chunk -> CompletableFuture.supplyAsync(() -> loader.apply(chunk), executor))
+                    .toList();
+            for (var future : futures) {
+                collect(join(future), found);
+            }
+        }
+
+        var result = new ArrayList<E>(found.size());
+        for (var id : distinct) {
+            var entity = found.get(id);
+            if (entity != null) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    private static <ID> List<ID> pad(List<ID> chunk, int chunkSize) {
+        var size = chunk.size();
+        var padded = size <= 1 ? size : Math.min(Integer.highestOneBit(size - 1) << 1, chunkSize);
+        if (padded == size) {
+            return chunk;
+        }
+
+        var list = new ArrayList<ID>(padded);
+        list.addAll(chunk);
+        var last = chunk.get(size - 1);
+        while (list.size() < padded) {
+            list.add(last);
+        }
+        return list;
+    }
+
+    private static <E extends Persistable<ID>, ID> void collect(List<E> entities, Map<ID, E> found) {
+        for (var entity : entities) {
+            found.putIfAbsent(entity.getId(), entity);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.luidmidev.springframework.data.crud.core.utils;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.NullValueInNestedPathException;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the fields requested for a projection against an entity class.
+ * <p>
+ * A field is a property of the entity or a dot separated path through its single valued properties (e.g.
+ * {@code address.city}). Only simple values (e.g. strings, numbers, dates, enums) can be selected: collection valued
+ * properties and paths that end in an entity or embeddable cannot, since their value would be serialized without the
+ * settings of its type. Projections are returned as maps keyed by the dot path of each field, in the requested order.
+ * </p>
+ * <p>
+ * Services only accept the fields they declare as projectable, which {@link #verifyProjectable} checks before the
+ * fields are resolved.
+ * </p>
+ */
+@UtilityClass
+public final class ProjectionUtils {
+
+    /**
+     * Checks that every requested field is one of the projectable fields.
+     *
+     * @throws IllegalArgumentException if no field is requested or a field is not projectable
+     */
+    public static void verifyProjectable(Collection<String> fields, Set<String> projectable) {
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be selected");
+        }
+        for (var field : fields) {
+            if (!projectable.contains(field)) {
+                throw new IllegalArgumentException("Field '" + field + "' cannot be selected");
+            }
+        }
+    }
+
+    public static List<PropertyPath> paths(Collection<String> fields, Class<?> type) {
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be selected");
+        }
+
+        var paths = new ArrayList<PropertyPath>(fields.size());
+        for (var field : new LinkedHashSet<>(fields)) {
+            PropertyPath path;
+            try {
+                path = PropertyPath.from(field, type);
+            } catch (PropertyReferenceException e) {
+                throw new IllegalArgumentException("Unknown field '" + field + "' for " + type.getSimpleName(), e);
+            }
+            for (var segment = path; segment != null; segment = segment.next()) {
+                if (segment.isCollection()) {
+                    throw new IllegalArgumentException("Collection field '" + field + "' cannot be selected");
+                }
+            }
+            if (!BeanUtils.isSimpleValueType(path.getLeafProperty().getType())) {
+                throw new IllegalArgumentException("Field '" + field + "' is not a simple value and cannot be selected");
+            }
+            paths.add(path);
+        }
+        return paths;
+    }
+
+    public static Map<String, Object> project(Object source, Collection<String> fields) {
+        var paths = paths(fields, ClassUtils.getUserClass(source));
+        var wrapper = new BeanWrapperImpl(source);
+        var projection = LinkedHashMap.<String, Object>newLinkedHashMap(paths.size());
+
+        for (var path : paths) {
+            var field = path.toDotPath();
+            try {
+                projection.put(field, wrapper.getPropertyValue(field));
+            } catch (NullValueInNestedPathException e) {
+                projection.put(field, null);
+            }
+        }
+        return projection;
+    }
+
+    public static Map<String, Object> toMap(List<PropertyPath> paths, Object[] values) {
+        var projection = LinkedHashMap.<String, Object>newLinkedHashMap(paths.size());
+        for (var i = 0; i < paths.size(); i++) {
+            projection.put(paths.get(i).toDotPath(), values[i]);
+        }
+        return projection;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -28,6 +29,18 @@ public final class ResponseEntityUtils {
         return resource(content, filename, mediaType, false);
     }
 
+    public static ResponseEntity<StreamingResponseBody> stream(StreamingResponseBody body, String filename, MediaType mediaType, boolean inline) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(mediaType)
+                .headers(getHeadersForFile(filename, inline))
+                .body(body);
+    }
+
+    public static ResponseEntity<StreamingResponseBody> stream(StreamingResponseBody body, String filename, MediaType mediaType) {
+        return stream(body, filename, mediaType, false);
+    }
+
     private static HttpHeaders getHeadersForFile(String filename, boolean inline) {
         var safeFilename = StringUtils.toASCII(filename);
         var encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
@@ -0,0 +1,153 @@
+package io.github.luidmidev.springframework.data.crud.core.utils;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.StringJoiner;
+
+/**
+ * Encodes keyset and offset scroll positions as opaque, URL safe continuation tokens.
+ * <p>
+ * Key values are written as strings, so a decoded keyset position must be typed again against the entity class with
+ * {@link #typed(KeysetScrollPosition, Class)} before it is used in a query. Offset positions are read with
+ * {@link #toPageable(ScrollPosition, Sort, int)} and {@link #toWindow(Slice, Pageable)} by the services that scroll
+ * over their slices.
+ * </p>
+ */
+@UtilityClass
+public final class ScrollPositionUtils {
+
+    private static final DefaultFormattingConversionService CONVERSION_SERVICE = createConversionService();
+
+    /**
+     * Marks offset tokens. Keys are URL encoded, so a keyset token never starts with it.
+     */
+    private static final char OFFSET_PREFIX = '#';
+
+    public static String encode(ScrollPosition position) {
+        if (position instanceof OffsetScrollPosition offset && !offset.isInitial()) {
+            return encode(OFFSET_PREFIX + String.valueOf(offset.getOffset()));
+        }
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset and offset scroll positions can be encoded: " + position);
+        }
+
+        var joiner = new StringJoiner("&");
+        keyset.getKeys().forEach((key, value) -> {
+            var encodedKey = URLEncoder.encode(key, StandardCharsets.UTF_8);
+            if (value == null) {
+                joiner.add(encodedKey);
+            } else {
+                var string = CONVERSION_SERVICE.convert(value, String.class);
+                joiner.add(encodedKey + "=" + URLEncoder.encode(string, StandardCharsets.UTF_8));
+            }
+        });
+
+        return encode(joiner.toString());
+    }
+
+    /**
+     * Decodes a continuation token, returning the initial keyset position if it is blank.
+     */
+    public static ScrollPosition decode(String token) {
+        if (StringUtils.isBlank(token)) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!decoded.isEmpty() && decoded.charAt(0) == OFFSET_PREFIX) {
+                return ScrollPosition.offset(Long.parseLong(decoded.substring(1)));
+            }
+            var keys = new LinkedHashMap<String, Object>();
+            for (var pair : decoded.split("&")) {
+                var separator = pair.indexOf('=');
+                if (separator < 0) {
+                    keys.put(URLDecoder.decode(pair, StandardCharsets.UTF_8), null);
+                } else {
+                    var key = URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8);
+                    var value = URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+                    keys.put(key, value);
+                }
+            }
+            return ScrollPosition.forward(keys);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid scroll token: " + token, e);
+        }
+    }
+
+    /**
+     * Converts the key values of the position to the types of the matching properties of the given class.
+     */
+    public static KeysetScrollPosition typed(KeysetScrollPosition position, Class<?> type) {
+        if (position.isInitial()) {
+            return position;
+        }
+
+        var keys = new LinkedHashMap<String, Object>();
+        try {
+            position.getKeys().forEach((key, value) -> {
+                var propertyType = PropertyPath.from(key, type).getLeafProperty().getType();
+                keys.put(key, CONVERSION_SERVICE.convert(value, propertyType));
+            });
+        } catch (PropertyReferenceException | ConversionException e) {
+            throw new IllegalArgumentException("Invalid scroll token: " + position, e);
+        }
+
+        return ScrollPosition.of(keys, position.getDirection());
+    }
+
+    /**
+     * Returns the pageable that reads the window after the position, which must be an offset position or the
+     * initial keyset position of a blank token.
+     *
+     * @param position the position of the last element of the previous window
+     * @param sort     the sort of the entities
+     * @param limit    the maximum number of entities in the window
+     * @return the pageable starting right after the position
+     */
+    public static Pageable toPageable(ScrollPosition position, Sort sort, int limit) {
+        if (position instanceof OffsetScrollPosition offset) {
+            return new OffsetPageRequest(offset.isInitial() ? 0 : offset.getOffset() + 1, limit, sort);
+        }
+        if (position.isInitial()) {
+            return new OffsetPageRequest(0, limit, sort);
+        }
+        throw new IllegalArgumentException("Only offset scroll positions are supported: " + position);
+    }
+
+    /**
+     * Returns the window with the content of the slice read with the given pageable, positioned by offset.
+     */
+    public static <E> Window<E> toWindow(Slice<E> slice, Pageable pageable) {
+        return Window.from(slice.getContent(), OffsetScrollPosition.positionFunction(pageable.getOffset()), slice.hasNext());
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DefaultFormattingConversionService createConversionService() {
+        var conversionService = new DefaultFormattingConversionService(false);
+        var registrar = new DateTimeFormatterRegistrar();
+        registrar.setUseIsoFormat(true);
+        registrar.registerFormatters(conversionService);
+        return conversionService;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.luidmidev.springframework.data.crud.core.utils;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import lombok.experimental.UtilityClass;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+@UtilityClass
+public final class ValidatorUtils {
+
+    /**
+     * Returns a validator of the default validation provider, created on first use, or {@code null} if there is no
+     * provider on the classpath.
+     */
+    public static Validator getDefaultValidator() {
+        return DefaultValidator.VALIDATOR;
+    }
+
+    /**
+     * Validates the constraints of the given properties of the bean, without cascading to the properties marked with
+     * {@code @Valid}. Names that are not constrained properties of the bean are ignored.
+     *
+     * @throws ConstraintViolationException if a property is not valid
+     */
+    public static void validateProperties(Validator validator, Object bean, Collection<String> properties) {
+        var descriptor = validator.getConstraintsForClass(bean.getClass());
+        var violations = new LinkedHashSet<ConstraintViolation<?>>();
+        for (var property : properties) {
+            if (descriptor.getConstraintsForProperty(property) != null) {
+                violations.addAll(validator.validateProperty(bean, property));
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    private static final class DefaultValidator {
+
+        private static final Validator VALIDATOR = create();
+
+        private static Validator create() {
+            try {
+                return Validation.buildDefaultValidatorFactory().getValidator();
+            } catch (ValidationException e) {
+                return null;
+            }
+        }
+    }
+}
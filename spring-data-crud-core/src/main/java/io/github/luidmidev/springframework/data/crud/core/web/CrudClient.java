@@ -4,6 +4,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.MultiValueMap;
@@ -87,6 +88,43 @@ public class CrudClient<E extends Persistable<ID>, D, ID> {
         return response.getBody();
     }
 
+    /**
+     * Retrieves a window of entities using keyset pagination.
+     *
+     * @param search  the search term to filter results
+     * @param cursor  the continuation token returned by the previous window, or {@code null} for the first one
+     * @param size    the maximum number of entities in the window
+     * @param sort    the sort of the entities, which must not change between windows
+     * @param filters additional filter criteria
+     * @return a {@link ScrollResponse} containing the entities and the token of the next window
+     */
+    public ScrollResponse<E> scroll(String search, String cursor, int size, Sort sort, MultiValueMap<String, String> filters) {
+
+        var builder = UriComponentsBuilder.fromUriString(baseUrl)
+                .pathSegment("scroll")
+                .queryParam("search", search)
+                .queryParam("cursor", cursor)
+                .queryParam("size", size);
+
+        for (var order : sort) {
+            builder.queryParam("sort", order.getProperty() + "," + order.getDirection());
+        }
+
+        if (filters != null) {
+            filters.forEach(builder::queryParam);
+        }
+
+        var url = builder.toUriString();
+        var response = restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<ScrollResponse<E>>() {
+                }
+        );
+        return response.getBody();
+    }
+
     /**
      * Retrieves a single entity by its ID.
      *
@@ -185,6 +223,27 @@ public class CrudClient<E extends Persistable<ID>, D, ID> {
         return response.getBody();
     }
 
+    /**
+     * Creates a batch of entities using the provided DTOs.
+     *
+     * @param dtos the DTOs containing the data for the new entities
+     * @return the created entities
+     */
+    public List<E> createAll(List<D> dtos) {
+        var url = UriComponentsBuilder.fromUriString(baseUrl)
+                .pathSegment("batch")
+                .toUriString();
+
+        var response = restTemplate.exchange(
+                url,
+                HttpMethod.POST,
+                new HttpEntity<>(dtos),
+                new ParameterizedTypeReference<List<E>>() {
+                }
+        );
+        return response.getBody();
+    }
+
     /**
      * Updates an existing entity with the specified ID using the provided DTO.
      *
@@ -220,4 +279,20 @@ public class CrudClient<E extends Persistable<ID>, D, ID> {
 
         restTemplate.delete(url);
     }
+
+    /**
+     * Deletes the entities with the specified IDs.
+     *
+     * @param ids the IDs of the entities to delete
+     */
+    public void deleteAll(List<ID> ids) {
+        var url = UriComponentsBuilder.fromUriString(baseUrl)
+                .pathSegment("batch");
+
+        for (var id : ids) {
+            url.queryParam("ids", id.toString());
+        }
+
+        restTemplate.delete(url.toUriString());
+    }
 }
@@ -0,0 +1,84 @@
+package io.github.luidmidev.springframework.data.crud.core.web;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Body of a JSON Merge Patch (RFC 7396) request.
+ * <p>
+ * The patch document is read into the DTO type, and the property names of the members present in the document are
+ * kept in {@code fields}, so a member explicitly set to {@code null} can be told apart from an absent one. Member names
+ * are resolved to property names through the Jackson description of the DTO, so renamed properties
+ * ({@code @JsonProperty}, naming strategies) are tracked by their property name, and members that are not properties
+ * of the DTO are dropped. Only top level members are tracked; a nested object in the document replaces the whole value
+ * of its member.
+ * </p>
+ *
+ * @param value  the patch document read as the DTO type, absent members are left with their default value
+ * @param fields the names of the DTO properties present in the patch document
+ * @param <T>    the DTO type
+ */
+@JsonDeserialize(using = MergePatch.Deserializer.class)
+public record MergePatch<T>(T value, Set<String> fields) {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    public static class Deserializer extends JsonDeserializer<MergePatch<?>> implements ContextualDeserializer {
+
+        private final JavaType valueType;
+        private final Map<String, String> properties;
+
+        public Deserializer() {
+            this(null, Map.of());
+        }
+
+        private Deserializer(JavaType valueType, Map<String, String> properties) {
+            this.valueType = valueType;
+            this.properties = properties;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property) {
+            var type = property == null ? context.getContextualType() : property.getType();
+            var valueType = type.containedTypeOrUnknown(0);
+
+            var properties = new HashMap<String, String>();
+            for (var definition : context.getConfig().introspect(valueType).findProperties()) {
+                properties.put(definition.getName(), definition.getInternalName());
+            }
+            return new Deserializer(valueType, properties);
+        }
+
+        @Override
+        public MergePatch<?> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode tree = parser.readValueAsTree();
+            if (!tree.isObject()) {
+                return context.reportInputMismatch(this, "JSON Merge Patch document must be an object");
+            }
+
+            var fields = new LinkedHashSet<String>();
+            tree.fieldNames().forEachRemaining(member -> {
+                var field = properties.get(member);
+                if (field != null) {
+                    fields.add(field);
+                }
+            });
+
+            Object value = context.readTreeAsValue(tree, valueType);
+            return new MergePatch<>(value, Collections.unmodifiableSet(fields));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.luidmidev.springframework.data.crud.core.web;
+
+import io.github.luidmidev.springframework.data.crud.core.utils.ScrollPositionUtils;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+
+/**
+ * Response of a scrolled read, by keyset or by offset.
+ * <p>
+ * The {@code next} token is opaque for the client and must be sent back as-is to retrieve the following window.
+ * It is {@code null} when there are no more elements.
+ * </p>
+ *
+ * @param content the elements of the window
+ * @param hasNext {@code true} if there are more elements after this window
+ * @param next    the continuation token of the next window, or {@code null} if there is none
+ * @param <E>     the type of the elements
+ */
+public record ScrollResponse<E>(List<E> content, boolean hasNext, String next) {
+
+    public static <E> ScrollResponse<E> of(Window<E> window) {
+        var next = window.hasNext() && !window.isEmpty()
+                ? ScrollPositionUtils.encode(window.positionAt(window.size() - 1))
+                : null;
+        return new ScrollResponse<>(window.getContent(), window.hasNext(), next);
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.luidmidev.springframework.data.crud.core.web.controllers;
+
+import io.github.luidmidev.springframework.data.crud.core.CrudService;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * CRUD Controller for performing both read and write operations asynchronously.
+ * <p>
+ * This controller combines {@link AsyncReadController} and {@link AsyncWriteController}, using the services defined
+ * in {@link CrudService} for delegating the actual operations.
+ * </p>
+ *
+ * @param <M>  Entity model, which extends {@link Persistable} with an ID type of {@code ID}
+ * @param <D>  DTO (Data Transfer Object) used to transfer data for create and update operations
+ * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
+ * @param <S>  Service that extends {@link CrudService} for the CRUD operations
+ */
+public interface AsyncCrudController<M extends Persistable<ID>, D, ID, S extends CrudService<M, D, ID>> extends
+        AsyncWriteController<M, D, ID, S>,
+        AsyncReadController<M, ID, S> {
+}
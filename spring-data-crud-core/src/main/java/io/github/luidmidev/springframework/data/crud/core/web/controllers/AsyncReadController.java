@@ -0,0 +1,94 @@
+package io.github.luidmidev.springframework.data.crud.core.web.controllers;
+
+
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.ReadService;
+import io.github.luidmidev.springframework.data.crud.core.providers.ServiceProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CRUD Controller for performing read operations asynchronously.
+ * <p>
+ * This controller provides the same endpoints as {@link ReadController}, but delegates to the {@code *Async}
+ * operations of {@link ReadService}, which run on the executor of the service (virtual threads by default). The
+ * servlet thread is released while the operation runs, so slow queries do not exhaust the servlet thread pool.
+ * </p>
+ *
+ * @param <M>  Entity model, which extends {@link Persistable} with an ID type of {@code ID}
+ * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
+ * @param <S>  Service that extends {@link ReadService} for the read operations
+ */
+public interface AsyncReadController<M extends Persistable<ID>, ID, S extends ReadService<M, ID>> extends ServiceProvider<S> {
+
+    /**
+     * Endpoint to retrieve a paginated list of entities, with optional search and filter parameters.
+     *
+     * @param search   Optional search string to filter entities based on a search term
+     * @param query    Optional query in format RSQL
+     * @param pageable Pageable object to define pagination details (e.g., page number, page size)
+     * @return A paginated list of entities matching the search and filter criteria
+     */
+    @GetMapping
+    default CompletableFuture<ResponseEntity<Page<M>>> page(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query,
+            Pageable pageable
+    ) {
+        return getService().pageAsync(search, pageable, query).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to retrieve an entity by its unique identifier.
+     *
+     * @param id The unique identifier of the entity to retrieve
+     * @return The entity corresponding to the provided ID
+     */
+    @GetMapping("/{id}")
+    default CompletableFuture<ResponseEntity<M>> find(@PathVariable ID id) {
+        return getService().findAsync(id).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to retrieve a list of entities by their unique identifiers.
+     *
+     * @param ids The list of IDs for the entities to retrieve
+     * @return A list of entities corresponding to the provided IDs
+     */
+    @GetMapping("/ids")
+    default CompletableFuture<ResponseEntity<List<M>>> find(@RequestParam List<ID> ids) {
+        return getService().findAsync(ids).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to retrieve the total count of entities.
+     *
+     * @return The total number of entities in the repository
+     */
+    @GetMapping("/count")
+    default CompletableFuture<ResponseEntity<Long>> count(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query
+    ) {
+        return getService().countAsync(search, query).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to check if an entity exists by its unique identifier.
+     *
+     * @param id The unique identifier of the entity to check
+     * @return {@code true} if the entity exists, {@code false} otherwise
+     */
+    @GetMapping("/exists")
+    default CompletableFuture<ResponseEntity<Boolean>> exists(@RequestParam ID id) {
+        return getService().existsAsync(id).thenApply(ResponseEntity::ok);
+    }
+}
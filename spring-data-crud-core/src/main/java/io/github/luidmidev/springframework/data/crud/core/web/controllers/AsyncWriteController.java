@@ -0,0 +1,69 @@
+package io.github.luidmidev.springframework.data.crud.core.web.controllers;
+
+import io.github.luidmidev.springframework.data.crud.core.WriteService;
+import io.github.luidmidev.springframework.data.crud.core.providers.ServiceProvider;
+import org.springframework.data.domain.Persistable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CRUD Controller for performing write operations asynchronously.
+ * <p>
+ * This controller provides the create, update and delete endpoints of {@link WriteController}, but delegates to the
+ * {@code *Async} operations of {@link WriteService}, which run on the executor of the service (virtual threads by
+ * default). Each operation still runs in its own transaction.
+ * </p>
+ *
+ * @param <M>  Entity model, which extends {@link Persistable} with an ID type of {@code ID}
+ * @param <D>  DTO (Data Transfer Object) used to transfer data for create and update operations
+ * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
+ * @param <S>  Service that extends {@link WriteService} for the CRUD operations
+ */
+public interface AsyncWriteController<M extends Persistable<ID>, D, ID, S extends WriteService<M, D, ID>> extends ServiceProvider<S> {
+
+    /**
+     * Endpoint to create a new entity from a DTO.
+     *
+     * @param dto The DTO containing the data to create a new entity
+     * @return The newly created entity
+     */
+    @PostMapping
+    default CompletableFuture<ResponseEntity<M>> create(@RequestBody D dto) {
+        return getService().createAsync(dto).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to update an existing entity by its unique identifier.
+     *
+     * @param id  The unique identifier of the entity to update
+     * @param dto The DTO containing the updated data for the entity
+     * @return The updated entity
+     */
+    @PutMapping("/{id}")
+    default CompletableFuture<ResponseEntity<M>> update(@PathVariable ID id, @RequestBody D dto) {
+        return getService().updateAsync(id, dto).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to delete an entity by its unique identifier.
+     *
+     * @param id The unique identifier of the entity to delete
+     * @return A confirmation message indicating the entity was deleted
+     */
+    @DeleteMapping("/{id}")
+    default CompletableFuture<ResponseEntity<String>> delete(@PathVariable ID id) {
+        return getService().deleteAsync(id).thenApply(unused -> ResponseEntity.ok(deletedMessage(id)));
+    }
+
+    /**
+     * Generates a message indicating the deletion of an entity.
+     *
+     * @param id The unique identifier of the entity that was deleted
+     * @return A string message confirming the deletion of the entity
+     */
+    default String deletedMessage(ID id) {
+        return "Deleted " + id;
+    }
+}
@@ -2,17 +2,22 @@ package io.github.luidmidev.springframework.data.crud.core.web.controllers;
 
 
 import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.providers.EntityTagProvider;
 import io.github.luidmidev.springframework.data.crud.core.providers.ServiceProvider;
 import io.github.luidmidev.springframework.data.crud.core.ReadService;
+import io.github.luidmidev.springframework.data.crud.core.utils.ScrollPositionUtils;
+import io.github.luidmidev.springframework.data.crud.core.web.ScrollResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * CRUD Controller for performing read operations.
@@ -26,12 +31,14 @@ import java.util.List;
  * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
  * @param <S>  Service that extends {@link ReadService} for the read operations
  */
-public interface ReadController<M extends Persistable<ID>, ID, S extends ReadService<M, ID>> extends ServiceProvider<S> {
+public interface ReadController<M extends Persistable<ID>, ID, S extends ReadService<M, ID>> extends ServiceProvider<S>, EntityTagProvider<M> {
 
     /**
      * Endpoint to retrieve a paginated list of entities, with optional search and filter parameters.
      * <p>
-     * The pagination is handled using {@link Pageable} and search/filter parameters are passed in the request.
+     * The pagination is handled using {@link Pageable} and search/filter parameters are passed in the request. The
+     * response is tagged with {@link #getEntityTag(Page)}, and is not sent again to a client whose
+     * {@code If-None-Match} header contains its tag ({@code 304 Not Modified}).
      * </p>
      *
      * @param search   Optional search string to filter entities based on a search term
@@ -45,18 +52,112 @@ public interface ReadController<M extends Persistable<ID>, ID, S extends ReadSer
             @RequestParam(required = false) Node query,
             Pageable pageable
     ) {
-        return ResponseEntity.ok(getService().page(search, pageable, query));
+        var page = getService().page(search, pageable, query);
+        return ResponseEntity.ok().eTag(getEntityTag(page)).body(page);
+    }
+
+    /**
+     * Endpoint to retrieve a paginated list of projections of the entities, with optional search and filter parameters.
+     * <p>
+     * Only the requested fields are selected, so the query does not load whole entities. Each projection is a map
+     * from the field to its value; a field can be a dot separated path through single valued properties. Only the
+     * fields the service declares in {@link ReadService#getProjectableFields()} can be selected, and the read hooks
+     * are not called, since no entity is loaded.
+     * </p>
+     *
+     * @param search   Optional search string to filter entities based on a search term
+     * @param query    Optional query in format RSQL
+     * @param fields   Comma separated fields to select (e.g. {@code id,name,address.city})
+     * @param pageable Pageable object to define pagination details (e.g., page number, page size)
+     * @return A paginated list of projections of the entities matching the search and filter criteria
+     */
+    @GetMapping(params = "fields")
+    default ResponseEntity<Page<Map<String, Object>>> page(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query,
+            @RequestParam List<String> fields,
+            Pageable pageable
+    ) {
+        return ResponseEntity.ok(getService().page(search, pageable, query, fields));
+    }
+
+    /**
+     * Endpoint to retrieve a slice of entities, with optional search and filter parameters.
+     * <p>
+     * Unlike {@link #page}, the total number of entities is not counted; the slice only tells whether there is a
+     * next slice, which is enough for infinite scrolling and avoids the count query.
+     * </p>
+     *
+     * @param search   Optional search string to filter entities based on a search term
+     * @param query    Optional query in format RSQL
+     * @param pageable Pageable object to define pagination details (e.g., page number, page size)
+     * @return A slice of entities matching the search and filter criteria
+     */
+    @GetMapping("/slice")
+    default ResponseEntity<Slice<M>> slice(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query,
+            Pageable pageable
+    ) {
+        return ResponseEntity.ok(getService().slice(search, pageable, query));
+    }
+
+    /**
+     * Endpoint to retrieve a window of entities using keyset pagination, with optional search and filter parameters.
+     * <p>
+     * Unlike {@link #page}, the position is given by an opaque continuation token instead of a page number, so deep
+     * windows cost the same as the first one. Services that do not scroll by keyset fall back to offset tokens, which
+     * read deep windows like deep pages. Only the size and sort of the {@link Pageable} are used; the sort must stay
+     * the same between requests that share a token.
+     * </p>
+     *
+     * @param search   Optional search string to filter entities based on a search term
+     * @param query    Optional query in format RSQL
+     * @param cursor   Optional continuation token returned by a previous request, omit it to retrieve the first window
+     * @param pageable Pageable object to define the window size and sort
+     * @return A window of entities matching the search and filter criteria, with the token of the next window
+     */
+    @GetMapping("/scroll")
+    default ResponseEntity<ScrollResponse<M>> scroll(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query,
+            @RequestParam(required = false) String cursor,
+            Pageable pageable
+    ) {
+        var position = ScrollPositionUtils.decode(cursor);
+        var window = getService().scroll(search, position, pageable.getSort(), pageable.getPageSize(), query);
+        return ResponseEntity.ok(ScrollResponse.of(window));
     }
 
     /**
      * Endpoint to retrieve an entity by its unique identifier.
+     * <p>
+     * The response is tagged with {@link #getEntityTag(Persistable)}, and is not sent again to a client whose
+     * {@code If-None-Match} header contains its tag ({@code 304 Not Modified}).
+     * </p>
      *
      * @param id The unique identifier of the entity to retrieve
      * @return The entity corresponding to the provided ID
      */
     @GetMapping("/{id}")
     default ResponseEntity<M> find(@PathVariable ID id) {
-        return ResponseEntity.ok(getService().find(id));
+        var entity = getService().find(id);
+        return ResponseEntity.ok().eTag(getEntityTag(entity)).body(entity);
+    }
+
+    /**
+     * Endpoint to retrieve a projection of an entity by its unique identifier.
+     * <p>
+     * Only the requested fields are selected, as in {@link #page(String, Node, List, Pageable)}.
+     * </p>
+     *
+     * @param id     The unique identifier of the entity to retrieve
+     * @param fields Comma separated fields to select
+     * @return The projection of the entity corresponding to the provided ID
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    default ResponseEntity<Map<String, Object>> find(@PathVariable ID id, @RequestParam List<String> fields) {
+        return ResponseEntity.ok(getService().find(id, fields));
     }
 
     /**
@@ -0,0 +1,129 @@
+package io.github.luidmidev.springframework.data.crud.core.web.controllers;
+
+
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.ReadService;
+import io.github.luidmidev.springframework.data.crud.core.providers.ServiceProvider;
+import io.github.luidmidev.springframework.data.crud.core.utils.ResponseEntityUtils;
+import io.github.luidmidev.springframework.data.crud.core.web.export.StreamingExporter;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * Controller for exporting data in a specific format (e.g., CSV, Excel) without buffering the file in memory.
+ * <p>
+ * This controller is an alternative to {@link ExportController}: instead of exporting a page of entities into a
+ * byte array, every matching entity is streamed from the service through {@link ReadService#stream} and written by
+ * the {@link StreamingExporter} directly to the response body, so the memory used does not depend on the number
+ * of exported entities.
+ * </p>
+ * <p>
+ * Its endpoints are mapped under {@code /export/stream}, so a controller can implement both this interface and
+ * {@link ExportController}.
+ * </p>
+ *
+ * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
+ * @param <S>  Service that extends {@link ReadService} for the entity type
+ * @param <O>  Type of the options or configuration used for the export
+ */
+public interface StreamingExportController<ID, S extends ReadService<?, ID>, O> extends ServiceProvider<S> {
+
+    /**
+     * Retrieves the exporter used for exporting data.
+     *
+     * @return the {@link StreamingExporter} that handles the export process
+     */
+    StreamingExporter<O> getExporter();
+
+    /**
+     * Retrieves the export options based on the provided parameters.
+     *
+     * @param params the parameters that may include fields, titles, and other options for the export
+     * @return the export options configured for the exporter
+     */
+    O getExportOptions(MultiValueMap<String, String> params);
+
+    /**
+     * Endpoint to export every entity matching the search and query.
+     * <p>
+     * The entities are read through a stream opened when the response body is written, so the export is not
+     * limited to a single page.
+     * </p>
+     *
+     * @param search an optional search string to filter the results
+     * @param query  optional query in format RSQL
+     * @param params rest parameters of the request
+     * @param sort   the order in which the entities are exported
+     * @return a {@link ResponseEntity} whose body writes the export file as it is produced
+     */
+    @GetMapping("/export/stream")
+    default ResponseEntity<StreamingResponseBody> exportStream(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query,
+            @RequestParam(required = false) MultiValueMap<String, String> params,
+            Sort sort
+    ) {
+        var options = getExportOptions(params);
+        var exporter = getExporter();
+
+        StreamingResponseBody body = output -> getService().stream(
+                search,
+                sort,
+                query,
+                elements -> export(exporter, elements, options, output)
+        );
+
+        return ResponseEntityUtils.stream(
+                body,
+                exporter.getFilename(options),
+                exporter.getMediaType(options)
+        );
+    }
+
+    /**
+     * Endpoint to export a single entity's
+     * <p>
+     * This method allows exporting a specific entity based on its ID
+     * </p>
+     *
+     * @param params rest parameters of the request
+     * @param id     the ID of the entity to export
+     * @return a {@link ResponseEntity} whose body writes the export file
+     */
+    @GetMapping("/export/stream/{id}")
+    default ResponseEntity<StreamingResponseBody> exportStreamFind(
+            @PathVariable ID id,
+            @RequestParam(required = false) MultiValueMap<String, String> params
+    ) {
+        params.remove("id");
+        var options = getExportOptions(params);
+        var exporter = getExporter();
+        var entity = getService().find(id);
+
+        StreamingResponseBody body = output -> exporter.export(Stream.of(entity), options, output);
+
+        return ResponseEntityUtils.stream(
+                body,
+                exporter.getFilename(options),
+                exporter.getMediaType(options)
+        );
+    }
+
+    private static <O> void export(StreamingExporter<O> exporter, Stream<?> elements, O options, OutputStream output) {
+        try {
+            exporter.export(elements, options, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
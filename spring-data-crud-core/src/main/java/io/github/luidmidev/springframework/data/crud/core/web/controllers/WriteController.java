@@ -1,11 +1,19 @@
 package io.github.luidmidev.springframework.data.crud.core.web.controllers;
 
+import io.github.luidmidev.springframework.data.crud.core.providers.EntityTagProvider;
 import io.github.luidmidev.springframework.data.crud.core.providers.ServiceProvider;
 import io.github.luidmidev.springframework.data.crud.core.WriteService;
+import io.github.luidmidev.springframework.data.crud.core.utils.EntityTagUtils;
+import io.github.luidmidev.springframework.data.crud.core.web.MergePatch;
 import org.springframework.data.domain.Persistable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 /**
  * CRUD Controller for performing write operations.
  * <p>
@@ -18,7 +26,7 @@ import org.springframework.web.bind.annotation.*;
  * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
  * @param <S>  Service that extends {@link WriteService} for the CRUD operations
  */
-public interface WriteController<M extends Persistable<ID>, D, ID, S extends WriteService<M, D, ID>> extends ServiceProvider<S> {
+public interface WriteController<M extends Persistable<ID>, D, ID, S extends WriteService<M, D, ID>> extends ServiceProvider<S>, EntityTagProvider<M> {
 
     /**
      * Endpoint to create a new entity from a DTO.
@@ -34,36 +42,94 @@ public interface WriteController<M extends Persistable<ID>, D, ID, S extends Wri
         return ResponseEntity.ok(getService().create(dto));
     }
 
+    /**
+     * Endpoint to create a batch of entities from a list of DTOs.
+     * <p>
+     * All the entities are created in a single transaction, so either every DTO is persisted or none is.
+     * </p>
+     *
+     * @param dtos The DTOs containing the data to create the new entities
+     * @return The newly created entities, in the same order as the DTOs
+     */
+    @PostMapping("/batch")
+    default ResponseEntity<List<M>> createAll(@RequestBody List<D> dtos) {
+        return ResponseEntity.ok(getService().createAll(dtos));
+    }
+
     /**
      * Endpoint to update an existing entity by its unique identifier.
      * <p>
      * This method maps the provided DTO to the existing entity and delegates the update operation to the service.
+     * With an {@code If-Match} header, the entity is only updated if its current tag is in the header, and
+     * {@code 412 Precondition Failed} is returned otherwise, so a client never overwrites changes it has not read.
      * </p>
      *
-     * @param id The unique identifier of the entity to update
-     * @param dto The DTO containing the updated data for the entity
+     * @param id      The unique identifier of the entity to update
+     * @param dto     The DTO containing the updated data for the entity
+     * @param ifMatch The tags of the {@code If-Match} header, if any
      * @return The updated entity
      */
     @PutMapping("/{id}")
-    default ResponseEntity<M> update(@PathVariable ID id, @RequestBody D dto) {
-        return ResponseEntity.ok(getService().update(id, dto));
+    default ResponseEntity<M> update(@PathVariable ID id, @RequestBody D dto, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) List<String> ifMatch) {
+        var entity = getService().update(id, dto, ifMatch(ifMatch));
+        return ResponseEntity.ok().eTag(getEntityTag(entity)).body(entity);
+    }
+
+    /**
+     * Endpoint to partially update an existing entity by its unique identifier.
+     * <p>
+     * The body is a JSON Merge Patch document: only the members present in it are applied to the entity, and a
+     * member set to {@code null} clears the property. Combined with dynamic updates in the persistence provider
+     * (e.g. Hibernate's {@code @DynamicUpdate}), only the changed columns are written. The {@code If-Match} header is
+     * checked as in {@link #update}.
+     * </p>
+     *
+     * @param id      The unique identifier of the entity to update
+     * @param patch   The JSON Merge Patch document with the members to update
+     * @param ifMatch The tags of the {@code If-Match} header, if any
+     * @return The updated entity
+     */
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    default ResponseEntity<M> patch(@PathVariable ID id, @RequestBody MergePatch<D> patch, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) List<String> ifMatch) {
+        var entity = getService().patch(id, patch.value(), patch.fields(), ifMatch(ifMatch));
+        return ResponseEntity.ok().eTag(getEntityTag(entity)).body(entity);
     }
 
     /**
      * Endpoint to delete an entity by its unique identifier.
      * <p>
-     * This method delegates the delete operation to the service and returns a message confirming the deletion.
+     * This method delegates the delete operation to the service and returns a message confirming the deletion. The
+     * {@code If-Match} header is checked as in {@link #update}.
      * </p>
      *
-     * @param id The unique identifier of the entity to delete
+     * @param id      The unique identifier of the entity to delete
+     * @param ifMatch The tags of the {@code If-Match} header, if any
      * @return A confirmation message indicating the entity was deleted
      */
     @DeleteMapping("/{id}")
-    default ResponseEntity<String> delete(@PathVariable ID id) {
-        getService().delete(id);
+    default ResponseEntity<String> delete(@PathVariable ID id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) List<String> ifMatch) {
+        getService().delete(id, ifMatch(ifMatch));
         return ResponseEntity.ok(deletedMessage(id));
     }
 
+    /**
+     * Endpoint to delete a batch of entities by their unique identifiers.
+     * <p>
+     * All the entities are deleted in a single transaction, and none is deleted if any of the ids has no entity
+     * ({@link io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException}), whether or not
+     * the service has delete hooks. When the service has no delete hooks, the entities may be deleted without being
+     * loaded.
+     * </p>
+     *
+     * @param ids The unique identifiers of the entities to delete
+     * @return A confirmation message indicating the entities were deleted
+     */
+    @DeleteMapping("/batch")
+    default ResponseEntity<String> deleteAll(@RequestParam List<ID> ids) {
+        getService().deleteAll(ids);
+        return ResponseEntity.ok(deletedMessage(ids));
+    }
+
     /**
      * Generates a message indicating the deletion of an entity.
      *
@@ -74,4 +140,24 @@ public interface WriteController<M extends Persistable<ID>, D, ID, S extends Wri
         return "Deleted " + id;
     }
 
+    /**
+     * Generates a message indicating the deletion of a batch of entities.
+     *
+     * @param ids The unique identifiers of the entities that were deleted
+     * @return A string message confirming the deletion of the entities
+     */
+    default String deletedMessage(List<ID> ids) {
+        return "Deleted " + ids;
+    }
+
+    /**
+     * Returns the precondition of the tags of an {@code If-Match} header, or {@code null} if there is no header or it
+     * matches any entity.
+     */
+    private Predicate<M> ifMatch(List<String> tags) {
+        if (tags == null || tags.isEmpty() || tags.stream().anyMatch(tag -> tag.trim().equals("*"))) {
+            return null;
+        }
+        return entity -> EntityTagUtils.matches(tags, getEntityTag(entity));
+    }
 }
@@ -0,0 +1,81 @@
+package io.github.luidmidev.springframework.data.crud.core.web.export;
+
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Exporter that writes the exported data directly to an {@link OutputStream}.
+ * <p>
+ * Unlike {@link Exporter}, implementations of this interface never hold the whole file in memory. Elements are
+ * consumed one by one from a {@link Stream} (usually backed by a database cursor) and written to the output as they
+ * arrive, so the memory used by an export does not depend on the number of exported elements.
+ * </p>
+ * <p>
+ * The filename and media type are resolved from the options before any element is written, because they are sent
+ * as response headers ahead of the body.
+ * </p>
+ *
+ * @param <O> the type of the options or configuration used for the export
+ */
+public interface StreamingExporter<O> extends Exporter<O> {
+
+    /**
+     * Resolves the filename of the exported file.
+     *
+     * @param options the options or configuration used for the export
+     * @return the filename of the exported file
+     */
+    String getFilename(O options);
+
+    /**
+     * Resolves the media type of the exported file.
+     *
+     * @param options the options or configuration used for the export
+     * @return the media type of the exported file, {@link MediaType#APPLICATION_OCTET_STREAM} by default
+     */
+    default MediaType getMediaType(O options) {
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    /**
+     * Exports a stream of elements, writing the result to the given output.
+     * <p>
+     * Implementations must consume the stream sequentially and should not collect it, otherwise the memory benefits
+     * of streaming are lost. The output must not be closed by the implementation.
+     * </p>
+     *
+     * @param elements the stream of elements to export
+     * @param options  the options or configuration used for the export
+     * @param output   the output where the exported data is written
+     * @throws IOException if an error occurs while writing to the output
+     */
+    void export(Stream<?> elements, O options, OutputStream output) throws IOException;
+
+    /**
+     * Exports a collection of elements by buffering the streamed output in memory.
+     * <p>
+     * Kept for compatibility with {@link Exporter}; prefer {@link #export(Stream, Object, OutputStream)} for
+     * large exports.
+     * </p>
+     *
+     * @param elements the collection of elements to export
+     * @param options  the options or configuration used for the export
+     * @return the exported data
+     */
+    @Override
+    default ExportResource export(Iterable<?> elements, O options) {
+        var output = new ByteArrayOutputStream();
+        try {
+            export(StreamSupport.stream(elements.spliterator(), false), options, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ExportResource(output.toByteArray(), getFilename(options), getMediaType(options));
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.luidmidev.springframework.data.crud.core.cache;
+
+import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FindBatcherTest {
+
+    private static final Duration LONG_WINDOW = Duration.ofSeconds(30);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void closeExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void loadsConcurrentLookupsInOneBatchWhenFull() {
+        var loads = new CopyOnWriteArrayList<List<Long>>();
+        var batcher = new FindBatcher<>(Item.class, 3, LONG_WINDOW);
+
+        var futures = List.of(1L, 2L, 3L).stream()
+                .map(id -> lookup(() -> batcher.find(id, recording(loads))))
+                .toList();
+
+        assertThat(futures.stream().map(CompletableFuture::join).map(Item::getId)).containsExactly(1L, 2L, 3L);
+        assertThat(loads).hasSize(1);
+        assertThat(loads.getFirst()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(batcher.getBatchCount()).isEqualTo(1);
+        assertThat(batcher.getLookupCount()).isEqualTo(3);
+    }
+
+    @Test
+    void loadsPartialBatchWhenWindowElapses() {
+        var loads = new CopyOnWriteArrayList<List<Long>>();
+        var batcher = new FindBatcher<>(Item.class, 100, Duration.ofMillis(20));
+
+        var item = batcher.find(7L, recording(loads));
+
+        assertThat(item.getId()).isEqualTo(7L);
+        assertThat(loads).containsExactly(List.of(7L));
+    }
+
+    @Test
+    void coalescesLookupsOfAnIdThatIsBeingLoaded() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var loads = new CopyOnWriteArrayList<List<Long>>();
+        Function<List<Long>, List<Item>> blocking = ids -> {
+            started.countDown();
+            await(release);
+            return recording(loads).apply(ids);
+        };
+        var batcher = new FindBatcher<>(Item.class, 1, LONG_WINDOW);
+
+        var first = lookup(() -> batcher.find(5L, blocking));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var second = lookup(() -> batcher.find(5L, blocking));
+        while (batcher.getCoalescedCount() < 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getId()).isEqualTo(5L);
+        assertThat(second.get(5, TimeUnit.SECONDS).getId()).isEqualTo(5L);
+        assertThat(loads).hasSize(1);
+        assertThat(batcher.getCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsLookupsOfDifferentScopesInTheirOwnBatches() {
+        var loads = new CopyOnWriteArrayList<List<Long>>();
+        var batcher = new FindBatcher<>(Item.class, 2, LONG_WINDOW);
+
+        var futures = List.of("alice", "bob").stream()
+                .flatMap(scope -> List.of(1L, 2L).stream().map(id -> lookup(() -> batcher.find(id, scope, recording(loads)))))
+                .toList();
+
+        assertThat(futures.stream().map(CompletableFuture::join).map(Item::getId)).containsExactly(1L, 2L, 1L, 2L);
+        assertThat(loads).hasSize(2).allSatisfy(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+        assertThat(batcher.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void failsOnlyTheLookupsOfMissingIds() {
+        var batcher = new FindBatcher<>(Item.class, 2, LONG_WINDOW);
+        Function<List<Long>, List<Item>> loader = ids -> ids.stream().filter(id -> id != 2L).map(Item::new).toList();
+
+        var found = lookup(() -> batcher.find(1L, loader));
+        var missing = lookup(() -> batcher.find(2L, loader));
+
+        assertThat(found.join().getId()).isEqualTo(1L);
+        assertThatThrownBy(missing::join)
+                .hasCauseInstanceOf(NotFoundEntityException.class)
+                .cause()
+                .extracting("id")
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void fansOutLoaderFailureToEveryLookupOfTheBatch() {
+        var batcher = new FindBatcher<>(Item.class, 2, LONG_WINDOW);
+        Function<List<Long>, List<Item>> loader = ids -> {
+            throw new IllegalStateException("database is down");
+        };
+
+        var first = lookup(() -> batcher.find(1L, loader));
+        var second = lookup(() -> batcher.find(2L, loader));
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(batcher.getBatchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new FindBatcher<>(Item.class, 0, LONG_WINDOW)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FindBatcher<>(Item.class, 1, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CompletableFuture<Item> lookup(Supplier<Item> find) {
+        return CompletableFuture.supplyAsync(find, executor);
+    }
+
+    private static Function<List<Long>, List<Item>> recording(List<List<Long>> loads) {
+        return ids -> {
+            loads.add(ids);
+            return ids.stream().map(Item::new).toList();
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Item(Long id) implements Persistable<Long> {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public boolean isNew() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.luidmidev.springframework.data.crud.jpa;
+
+import io.github.luidmidev.springframework.data.crud.core.AuthorizedCrud;
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.Authentication;
+
+/**
+ * {@link AuthorizedCrud} whose row-level restrictions are expressed as a JPA {@link Specification}, for conditions
+ * that RSQL cannot express (e.g. subqueries or joins through the user's memberships).
+ *
+ * @param <E> Entity
+ */
+public interface AuthorizedSpecificationCrud<E> extends AuthorizedCrud {
+
+    /**
+     * Specification that restricts the rows the authentication can read with the operation. It is added with
+     * {@code AND} to the query of the operation, together with the {@link #getRowFilter row filter}, so the rows it
+     * excludes are neither loaded nor counted; updates and deletes load their entity with both the {@code FIND}
+     * specification and their own. Returns {@code null} by default, which does not restrict the rows.
+     *
+     * @param authentication the authentication of the request, or {@code null} if there is none
+     * @param operation      the operation
+     * @return the specification, or {@code null} to read every row
+     */
+    default Specification<E> getRowSpecification(Authentication authentication, CrudOperation operation) {
+        return null;
+    }
+}
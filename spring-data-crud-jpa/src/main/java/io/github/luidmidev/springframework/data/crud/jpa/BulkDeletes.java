@@ -0,0 +1,79 @@
+package io.github.luidmidev.springframework.data.crud.jpa;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PreRemove;
+import lombok.experimental.UtilityClass;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Decides whether the entities of a class can be deleted with a bulk {@code DELETE} statement, which skips the
+ * lifecycle of the entities. It cannot when the entity is soft deleted ({@code @SQLDelete}, {@code @SoftDelete}), has
+ * remove callbacks or entity listeners, or owns rows of other tables that are removed with it (cascaded or orphan
+ * removed associations, element collections and many-to-many join tables).
+ */
+@UtilityClass
+class BulkDeletes {
+
+    private static final Set<String> SOFT_DELETE_ANNOTATIONS = Set.of(
+            "org.hibernate.annotations.SQLDelete",
+            "org.hibernate.annotations.SQLDeletes",
+            "org.hibernate.annotations.SoftDelete"
+    );
+
+    private static final ClassValue<Boolean> SUPPORTED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return hierarchy(type).noneMatch(BulkDeletes::requiresLifecycle);
+        }
+    };
+
+    static boolean isSupported(Class<?> entityClass) {
+        return SUPPORTED.get(entityClass);
+    }
+
+    private static boolean requiresLifecycle(Class<?> type) {
+        if (type.isAnnotationPresent(EntityListeners.class) || Arrays.stream(type.getAnnotations()).anyMatch(BulkDeletes::isSoftDelete)) {
+            return true;
+        }
+        return Stream.concat(Arrays.stream(type.getDeclaredFields()), Arrays.stream(type.getDeclaredMethods()))
+                .anyMatch(member -> member.isAnnotationPresent(PreRemove.class)
+                        || member.isAnnotationPresent(PostRemove.class)
+                        || member.isAnnotationPresent(ElementCollection.class)
+                        || member.isAnnotationPresent(ManyToMany.class)
+                        || removesAssociation(member));
+    }
+
+    private static boolean removesAssociation(AnnotatedElement member) {
+        var oneToMany = member.getAnnotation(OneToMany.class);
+        if (oneToMany != null) {
+            return oneToMany.orphanRemoval() || removes(oneToMany.cascade());
+        }
+        var oneToOne = member.getAnnotation(OneToOne.class);
+        return oneToOne != null && (oneToOne.orphanRemoval() || removes(oneToOne.cascade()));
+    }
+
+    private static boolean removes(CascadeType[] cascade) {
+        var types = List.of(cascade);
+        return types.contains(CascadeType.ALL) || types.contains(CascadeType.REMOVE);
+    }
+
+    private static boolean isSoftDelete(Annotation annotation) {
+        return SOFT_DELETE_ANNOTATIONS.contains(annotation.annotationType().getName());
+    }
+
+    private static Stream<Class<?>> hierarchy(Class<?> type) {
+        return Stream.<Class<?>>iterate(type, current -> current != null && current != Object.class, Class::getSuperclass);
+    }
+}
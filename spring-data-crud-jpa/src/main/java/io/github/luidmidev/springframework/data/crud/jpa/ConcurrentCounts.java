@@ -0,0 +1,87 @@
+package io.github.luidmidev.springframework.data.crud.jpa;
+
+import jakarta.persistence.EntityManager;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Builds pages whose count query runs concurrently with the query of their content.
+ * <p>
+ * The count runs on the executor with a new read-only {@link EntityManager} of the same factory, started before the
+ * content is queried and joined only if {@link PageableExecutionUtils} needs the total. Otherwise its result is
+ * discarded: a count still waiting in the executor is skipped, but one that already started is not interrupted and
+ * runs to completion on its own connection.
+ * Without executor, with an unpaged request, or inside a read-write transaction, the count runs after the content on
+ * the calling thread, as {@link PageableExecutionUtils#getPage} does.
+ * </p>
+ */
+@UtilityClass
+class ConcurrentCounts {
+
+    private static final String READ_ONLY_HINT = "org.hibernate.readOnly";
+
+    static <T> Page<T> getPage(EntityManager entityManager, Supplier<List<T>> content, Pageable pageable, ToLongFunction<EntityManager> count, Executor executor) {
+        if (executor == null || pageable.isUnpaged() || isReadWriteTransaction()) {
+            return PageableExecutionUtils.getPage(content.get(), pageable, () -> count.applyAsLong(entityManager));
+        }
+
+        var factory = entityManager.getEntityManagerFactory();
+        var total = CompletableFuture.supplyAsync(() -> {
+            var detached = factory.createEntityManager();
+            try {
+                detached.setProperty(READ_ONLY_HINT, true);
+                return count.applyAsLong(detached);
+            } finally {
+                detached.close();
+            }
+        }, executor);
+
+        try {
+            return PageableExecutionUtils.getPage(content.get(), pageable, () -> join(total));
+        } finally {
+            total.cancel(false);
+        }
+    }
+
+    static <E> long count(EntityManager entityManager, Class<E> entityClass, Specification<E> specification) {
+        var cb = entityManager.getCriteriaBuilder();
+        var criteria = cb.createQuery(Long.class);
+        var root = criteria.from(entityClass);
+
+        var predicate = specification.toPredicate(root, criteria, cb);
+        if (predicate != null) {
+            criteria.where(predicate);
+        }
+        criteria.select(criteria.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        criteria.orderBy(List.of());
+
+        return entityManager.createQuery(criteria).getResultList().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static boolean isReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static long join(CompletableFuture<Long> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.luidmidev.springframework.data.crud.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.experimental.UtilityClass;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@UtilityClass
+class EntityStreams {
+
+    static final String FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+
+    static final int FETCH_SIZE = 500;
+
+    /**
+     * Opens the stream with an entity manager bound to the current thread until the stream is closed.
+     * <p>
+     * Outside of a transaction and of open-in-view, the shared entity manager closes the one it creates as soon as the
+     * query returns, which closes the cursor before the stream is read. Unless the factory already has an entity
+     * manager bound to the thread, a new one is opened and bound, as open-in-view does, so the queries of the shared
+     * entity manager run on it; it is unbound and closed with the stream, on the thread that opened it.
+     * </p>
+     */
+    static <E> Stream<E> open(EntityManager entityManager, Supplier<Stream<E>> query) {
+        var factory = entityManager.getEntityManagerFactory();
+        if (TransactionSynchronizationManager.hasResource(factory)) {
+            return query.get();
+        }
+
+        var owned = factory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(factory, new EntityManagerHolder(owned));
+        try {
+            return query.get().onClose(() -> release(factory, owned));
+        } catch (RuntimeException | Error e) {
+            release(factory, owned);
+            throw e;
+        }
+    }
+
+    /**
+     * Detaches each entity from the persistence context once the next one is pulled from the stream, so a cursor
+     * over many rows does not accumulate every read entity in the first level cache.
+     */
+    static <E> Stream<E> detaching(EntityManager entityManager, Stream<E> stream) {
+        var previous = new AtomicReference<E>();
+        return stream.peek(entity -> {
+            var last = previous.getAndSet(entity);
+            if (last != null) {
+                entityManager.detach(last);
+            }
+        });
+    }
+
+    private static void release(EntityManagerFactory factory, EntityManager entityManager) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(factory);
+        EntityManagerFactoryUtils.closeEntityManager(entityManager);
+    }
+}
@@ -17,4 +17,9 @@ public interface JpaCrudService<E extends Persistable<ID>, D, ID, R extends JpaR
         JpaReadService<E, ID, R>,
         JpaWriteService<E, D, ID, R>,
         StandardCrudService<E, D, ID, R> {
+
+    @Override
+    default E internalFind(ID id) {
+        return JpaReadService.super.internalFind(id);
+    }
 }
@@ -0,0 +1,61 @@
+package io.github.luidmidev.springframework.data.crud.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaMetamodelEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaPersistableEntityInformation;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Resolves the {@link JpaEntityInformation} of each entity class once per {@link EntityManagerFactory}, instead of
+ * walking the metamodel on every query that needs the id attributes or keyset values of the entity.
+ * <p>
+ * The information is kept per factory, so entity classes shared by several persistence units resolve against the
+ * metamodel of their own unit, and it is read from the metamodel of the factory without opening a session. It is
+ * attached to the entity class and reaches the metamodel of its factory, so a factory stays cached as long as the
+ * entity classes it resolved are loaded: one entry per persistence unit for the life of the application, released
+ * with its class loader (e.g. on a devtools restart) but not when the factory alone is closed.
+ * </p>
+ */
+@UtilityClass
+class JpaEntityInformationCache {
+
+    private static final Map<EntityManagerFactory, FactoryEntityInformation> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @SuppressWarnings("unchecked")
+    static <E> JpaEntityInformation<E, ?> get(Class<E> entityClass, EntityManager entityManager) {
+        var factory = entityManager.getEntityManagerFactory();
+        return (JpaEntityInformation<E, ?>) CACHE.computeIfAbsent(factory, FactoryEntityInformation::new).get(entityClass);
+    }
+
+    private static final class FactoryEntityInformation extends ClassValue<JpaEntityInformation<?, ?>> {
+
+        private final WeakReference<EntityManagerFactory> factory;
+
+        private FactoryEntityInformation(EntityManagerFactory factory) {
+            this.factory = new WeakReference<>(factory);
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected JpaEntityInformation<?, ?> computeValue(Class<?> type) {
+            var entityManagerFactory = factory.get();
+            if (entityManagerFactory == null) {
+                throw new IllegalStateException("Entity manager factory of " + type.getName() + " was closed");
+            }
+            var metamodel = entityManagerFactory.getMetamodel();
+            var persistenceUnitUtil = entityManagerFactory.getPersistenceUnitUtil();
+            if (Persistable.class.isAssignableFrom(type)) {
+                return new JpaPersistableEntityInformation(type, metamodel, persistenceUnitUtil);
+            }
+            return new JpaMetamodelEntityInformation<>(type, metamodel, persistenceUnitUtil);
+        }
+    }
+}
@@ -5,13 +5,36 @@ import cz.jirutka.rsql.parser.ast.Node;
 import io.github.luidmidev.omnisearch.core.OmniSearchBaseOptions;
 import io.github.luidmidev.omnisearch.core.OmniSearchOptions;
 import io.github.luidmidev.omnisearch.jpa.JpaOmniSearch;
+import io.github.luidmidev.omnisearch.jpa.JpaOmniSearchPredicateBuilder;
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
 import io.github.luidmidev.springframework.data.crud.core.StandardReadService;
+import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
+import io.github.luidmidev.springframework.data.crud.core.utils.MultiGetUtils;
+import io.github.luidmidev.springframework.data.crud.core.utils.ScrollPositionUtils;
+import io.github.luidmidev.springframework.data.crud.jpa.providers.CountExecutorProvider;
 import io.github.luidmidev.springframework.data.crud.jpa.providers.EntityManagerProvider;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.jpa.repository.query.KeysetScrollSpecification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * CRUD Service for JPA
@@ -22,7 +45,35 @@ import org.springframework.data.support.PageableExecutionUtils;
  */
 public interface JpaReadService<E extends Persistable<ID>, ID, R extends JpaRepository<E, ID>> extends
         StandardReadService<E, ID, R>,
-        EntityManagerProvider {
+        EntityManagerProvider,
+        CountExecutorProvider {
+
+    @Override
+    default Page<E> internalPage(Pageable pageable) {
+        var executor = getCountExecutor();
+        var restriction = RowAuthorizations.<E>restriction(this, getEntityManager(), CrudOperation.PAGE);
+        if (executor == null && restriction == null) {
+            return StandardReadService.super.internalPage(pageable);
+        }
+
+        var entityManager = getEntityManager();
+        var entityClass = getEntityClass();
+        Specification<E> counted = restriction == null ? (root, q, cb) -> null : restriction;
+        return ConcurrentCounts.getPage(
+                entityManager,
+                () -> {
+                    var typedQuery = createQuery(toBaseSearchOptions(null, null), pageable.getSort(), restriction);
+                    if (pageable.isPaged()) {
+                        typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+                        typedQuery.setMaxResults(pageable.getPageSize());
+                    }
+                    return typedQuery.getResultList();
+                },
+                pageable,
+                em -> em == entityManager && restriction == null ? getRepository().count() : ConcurrentCounts.count(em, entityClass, counted),
+                executor
+        );
+    }
 
     @Override
     default Page<E> internalSearch(String search, Pageable pageable) {
@@ -31,16 +82,180 @@ public interface JpaReadService<E extends Persistable<ID>, ID, R extends JpaRepo
 
     @Override
     default Page<E> internalSearch(String search, Pageable pageable, Node query) {
-        var options = toSearchOptions(search, pageable, query);
         var entityClass = getEntityClass();
-        var omniSearch = new JpaOmniSearch(getEntityManager());
-        return PageableExecutionUtils.getPage(
-                omniSearch.search(entityClass, options),
+        var entityManager = getEntityManager();
+        var restriction = RowAuthorizations.<E>restriction(this, entityManager, CrudOperation.PAGE);
+        if (restriction != null) {
+            return restrictedPage(toBaseSearchOptions(search, query), pageable, restriction);
+        }
+
+        var options = toSearchOptions(search, pageable, query);
+        return ConcurrentCounts.getPage(
+                entityManager,
+                () -> getOmniSearch().search(entityClass, options),
                 pageable,
-                () -> omniSearch.count(entityClass, options)
+                em -> getOmniSearch(em).count(entityClass, options),
+                getCountExecutor()
         );
     }
 
+    @Override
+    default Page<Map<String, Object>> internalPage(String search, Pageable pageable, Node query, List<String> fields) {
+        var options = toBaseSearchOptions(search, query);
+        var entityManager = getEntityManager();
+        var entityClass = getEntityClass();
+        var restriction = RowAuthorizations.<E>restriction(this, entityManager, CrudOperation.PAGE);
+        Specification<E> spec = (root, q, cb) -> JpaOmniSearchPredicateBuilder.buildPredicate(entityManager, cb, root, options);
+        if (restriction != null) {
+            var restricted = spec.and(restriction);
+            return Projections.page(entityManager, entityClass, fields, restricted, pageable, em -> ConcurrentCounts.count(em, entityClass, restricted), getCountExecutor());
+        }
+        return Projections.page(entityManager, entityClass, fields, spec, pageable, em -> getOmniSearch(em).count(entityClass, options), getCountExecutor());
+    }
+
+    @Override
+    default Slice<E> internalSlice(Pageable pageable) {
+        return internalSlice(null, pageable, null);
+    }
+
+    @Override
+    default Slice<E> internalSlice(String search, Pageable pageable) {
+        return internalSlice(search, pageable, null);
+    }
+
+    @Override
+    default Slice<E> internalSlice(String search, Pageable pageable, Node query) {
+        var options = toBaseSearchOptions(search, query);
+        var restriction = RowAuthorizations.<E>restriction(this, getEntityManager(), CrudOperation.PAGE);
+        var typedQuery = createQuery(options, pageable.getSort(), restriction);
+
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+
+        var results = typedQuery
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        var hasNext = results.size() > pageable.getPageSize();
+        var content = hasNext ? results.subList(0, pageable.getPageSize()) : results;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    default Window<E> internalScroll(ScrollPosition position, Sort sort, int limit) {
+        return internalScroll(null, position, sort, limit, null);
+    }
+
+    @Override
+    default Window<E> internalScroll(String search, ScrollPosition position, Sort sort, int limit) {
+        return internalScroll(search, position, sort, limit, null);
+    }
+
+    @Override
+    default Window<E> internalScroll(String search, ScrollPosition position, Sort sort, int limit, Node query) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset scroll positions are supported: " + position);
+        }
+
+        var options = toBaseSearchOptions(search, query);
+        var entityClass = getEntityClass();
+        var information = JpaEntityInformationCache.get(entityClass, getEntityManager());
+        var specification = new KeysetScrollSpecification<E>(ScrollPositionUtils.typed(keyset, entityClass), sort, information);
+        var restriction = RowAuthorizations.<E>restriction(this, getEntityManager(), CrudOperation.PAGE);
+
+        var results = createQuery(options, specification.sort(), RowAuthorizations.and(specification, restriction))
+                .setMaxResults(limit + 1)
+                .getResultList();
+
+        var hasNext = results.size() > limit;
+        var content = hasNext ? results.subList(0, limit) : results;
+        var properties = specification.sort().stream().map(Sort.Order::getProperty).toList();
+
+        return Window.from(
+                content,
+                index -> ScrollPosition.forward(information.getKeyset(properties, content.get(index))),
+                hasNext
+        );
+    }
+
+    @Override
+    default Stream<E> internalStream(Sort sort) {
+        return internalStream(null, sort, null);
+    }
+
+    @Override
+    default Stream<E> internalStream(String search, Sort sort) {
+        return internalStream(search, sort, null);
+    }
+
+    @Override
+    default Stream<E> internalStream(String search, Sort sort, Node query) {
+        var options = toBaseSearchOptions(search, query);
+        var restriction = RowAuthorizations.<E>restriction(this, getEntityManager(), CrudOperation.PAGE);
+        var stream = EntityStreams.open(getEntityManager(), () -> createQuery(options, sort, restriction)
+                .setHint(EntityStreams.FETCH_SIZE_HINT, EntityStreams.FETCH_SIZE)
+                .getResultStream());
+
+        return EntityStreams.detaching(getEntityManager(), stream);
+    }
+
+    @Override
+    default E internalFind(ID id) {
+        var restriction = RowAuthorizations.<E>restriction(this, getEntityManager(), CrudOperation.FIND);
+        if (restriction == null) {
+            return StandardReadService.super.internalFind(id);
+        }
+
+        var entityClass = getEntityClass();
+        var information = JpaEntityInformationCache.get(entityClass, getEntityManager());
+        return createQuery(toBaseSearchOptions(null, null), Sort.unsorted(), RowAuthorizations.byId(information, id).and(restriction))
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst()
+                .orElseThrow(() -> new NotFoundEntityException(entityClass, id));
+    }
+
+    @Override
+    default Map<String, Object> internalFind(ID id, List<String> fields) {
+        var entityManager = getEntityManager();
+        var entityClass = getEntityClass();
+        var information = JpaEntityInformationCache.get(entityClass, entityManager);
+        var restriction = RowAuthorizations.<E>restriction(this, entityManager, CrudOperation.FIND);
+        if (information.hasCompositeId() && restriction == null) {
+            return StandardReadService.super.internalFind(id, fields);
+        }
+
+        var spec = RowAuthorizations.and(RowAuthorizations.byId(information, id), restriction);
+        return Projections.findOne(entityManager, entityClass, fields, spec)
+                .orElseThrow(() -> new NotFoundEntityException(entityClass, id));
+    }
+
+    @Override
+    default List<E> internalFind(List<ID> ids) {
+        var restriction = RowAuthorizations.<E>restriction(this, getEntityManager(), CrudOperation.FIND);
+        if (restriction == null) {
+            return StandardReadService.super.internalFind(ids);
+        }
+
+        var information = JpaEntityInformationCache.get(getEntityClass(), getEntityManager());
+        return MultiGetUtils.findAll(ids, getMultiGetChunkSize(), getMultiGetExecutor(), chunk -> createQuery(
+                toBaseSearchOptions(null, null),
+                Sort.unsorted(),
+                RowAuthorizations.byIds(information, chunk).and(restriction)
+        ).getResultList());
+    }
+
+    @Override
+    default long internalCount() {
+        var restriction = RowAuthorizations.<E>restriction(this, getEntityManager(), CrudOperation.COUNT);
+        if (restriction == null) {
+            return StandardReadService.super.internalCount();
+        }
+        return ConcurrentCounts.count(getEntityManager(), getEntityClass(), restriction);
+    }
 
     @Override
     default long internalCount(String search) {
@@ -50,8 +265,90 @@ public interface JpaReadService<E extends Persistable<ID>, ID, R extends JpaRepo
     @Override
     default long internalCount(String search, Node query) {
         var options = toBaseSearchOptions(search, query);
-        var omniSearch = new JpaOmniSearch(getEntityManager());
-        return omniSearch.count(getEntityClass(), options);
+        var restriction = RowAuthorizations.<E>restriction(this, getEntityManager(), CrudOperation.COUNT);
+        if (restriction == null) {
+            return getOmniSearch().count(getEntityClass(), options);
+        }
+        return ConcurrentCounts.count(getEntityManager(), getEntityClass(), search(options).and(restriction));
+    }
+
+    @Override
+    default boolean internalExists(ID id) {
+        var restriction = RowAuthorizations.<E>restriction(this, getEntityManager(), CrudOperation.EXISTS);
+        if (restriction == null) {
+            return StandardReadService.super.internalExists(id);
+        }
+
+        var information = JpaEntityInformationCache.get(getEntityClass(), getEntityManager());
+        return ConcurrentCounts.count(getEntityManager(), getEntityClass(), RowAuthorizations.byId(information, id).and(restriction)) > 0;
+    }
+
+    @Override
+    default boolean isRowRestricted(CrudOperation operation) {
+        return RowAuthorizations.<E>restriction(this, getEntityManager(), operation) != null;
+    }
+
+    /**
+     * Whether a transaction is active or an entity manager of the factory, such as the one opened by open-in-view,
+     * is bound to the current thread.
+     */
+    @Override
+    default boolean isSessionBound() {
+        return StandardReadService.super.isSessionBound() || TransactionSynchronizationManager.hasResource(getEntityManager().getEntityManagerFactory());
+    }
+
+    private Page<E> restrictedPage(OmniSearchBaseOptions options, Pageable pageable, Specification<E> restriction) {
+        var entityManager = getEntityManager();
+        var entityClass = getEntityClass();
+        var counted = search(options).and(restriction);
+        return ConcurrentCounts.getPage(
+                entityManager,
+                () -> {
+                    var typedQuery = createQuery(options, pageable.getSort(), restriction);
+                    if (pageable.isPaged()) {
+                        typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+                        typedQuery.setMaxResults(pageable.getPageSize());
+                    }
+                    return typedQuery.getResultList();
+                },
+                pageable,
+                em -> ConcurrentCounts.count(em, entityClass, counted),
+                getCountExecutor()
+        );
+    }
+
+    private Specification<E> search(OmniSearchBaseOptions options) {
+        var entityManager = getEntityManager();
+        return (root, q, cb) -> JpaOmniSearchPredicateBuilder.buildPredicate(entityManager, cb, root, options);
+    }
+
+    private TypedQuery<E> createQuery(OmniSearchBaseOptions options, Sort sort, Specification<E> restriction) {
+        var entityManager = getEntityManager();
+        var entityClass = getEntityClass();
+
+        var cb = entityManager.getCriteriaBuilder();
+        var criteria = cb.createQuery(entityClass);
+        var root = criteria.from(entityClass);
+
+        var predicates = Stream.of(
+                        JpaOmniSearchPredicateBuilder.buildPredicate(entityManager, cb, root, options),
+                        restriction == null ? null : restriction.toPredicate(root, criteria, cb)
+                )
+                .filter(Objects::nonNull)
+                .toArray(Predicate[]::new);
+
+        criteria.where(predicates);
+        criteria.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(criteria);
+    }
+
+    default JpaOmniSearch getOmniSearch() {
+        return new JpaOmniSearch(getEntityManager());
+    }
+
+    private JpaOmniSearch getOmniSearch(EntityManager entityManager) {
+        return entityManager == getEntityManager() ? getOmniSearch() : new JpaOmniSearch(entityManager);
     }
 
     default OmniSearchOptions toSearchOptions(String search, Pageable pageable, Node query) {
@@ -10,14 +10,26 @@ import io.github.luidmidev.springframework.data.crud.core.providers.EntityClassP
 import io.github.luidmidev.springframework.data.crud.core.providers.RepositoryProvider;
 import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
 import io.github.luidmidev.springframework.data.crud.core.ReadService;
+import io.github.luidmidev.springframework.data.crud.core.utils.MultiGetUtils;
+import io.github.luidmidev.springframework.data.crud.core.utils.ScrollPositionUtils;
+import io.github.luidmidev.springframework.data.crud.jpa.providers.CountExecutorProvider;
 import io.github.luidmidev.springframework.data.crud.jpa.providers.EntityManagerProvider;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * CRUD Service for JPA
@@ -30,13 +42,14 @@ public interface JpaSpecificationReadService<E extends Persistable<ID>, ID, R ex
         ReadService<E, ID>,
         RepositoryProvider<R>,
         EntityManagerProvider,
+        CountExecutorProvider,
         EntityClassProvider<E>,
         SpecificationCombiner<E> {
 
     @Override
     default Page<E> internalPage(Pageable pageable) {
         Specification<E> spec = (root, query, cb) -> null;
-        return getRepository().findAll(combineSpecification(spec, CrudOperation.PAGE), pageable);
+        return page(restrict(spec, CrudOperation.PAGE), pageable);
     }
 
     @Override
@@ -53,25 +66,117 @@ public interface JpaSpecificationReadService<E extends Persistable<ID>, ID, R ex
                 root,
                 options
         );
-        return getRepository().findAll(combineSpecification(spec, CrudOperation.PAGE), pageable);
+        return page(restrict(spec, CrudOperation.PAGE), pageable);
+    }
+
+    @Override
+    default Page<Map<String, Object>> internalPage(String search, Pageable pageable, Node query, List<String> fields) {
+        var options = toBaseSearchOptions(search, query);
+        Specification<E> spec = (root, q, cb) -> JpaOmniSearchPredicateBuilder.buildPredicate(
+                getEntityManager(),
+                cb,
+                root,
+                options
+        );
+        var combined = restrict(spec, CrudOperation.PAGE);
+        return Projections.page(getEntityManager(), getEntityClass(), fields, combined, pageable, em -> count(em, combined), getCountExecutor());
+    }
+
+    @Override
+    default Slice<E> internalSlice(Pageable pageable) {
+        Specification<E> spec = (root, query, cb) -> null;
+        return getRepository().findBy(restrict(spec, CrudOperation.PAGE), query -> query.slice(pageable));
+    }
+
+    @Override
+    default Slice<E> internalSlice(String search, Pageable pageable) {
+        return internalSlice(search, pageable, null);
+    }
+
+    @Override
+    default Slice<E> internalSlice(String search, Pageable pageable, Node query) {
+        var options = toBaseSearchOptions(search, query);
+        Specification<E> spec = (root, q, cb) -> JpaOmniSearchPredicateBuilder.buildPredicate(
+                getEntityManager(),
+                cb,
+                root,
+                options
+        );
+        return getRepository().findBy(restrict(spec, CrudOperation.PAGE), q -> q.slice(pageable));
+    }
+
+    @Override
+    default Window<E> internalScroll(ScrollPosition position, Sort sort, int limit) {
+        Specification<E> spec = (root, query, cb) -> null;
+        return scroll(restrict(spec, CrudOperation.PAGE), position, sort, limit);
+    }
+
+    @Override
+    default Window<E> internalScroll(String search, ScrollPosition position, Sort sort, int limit) {
+        return internalScroll(search, position, sort, limit, null);
+    }
+
+    @Override
+    default Window<E> internalScroll(String search, ScrollPosition position, Sort sort, int limit, Node query) {
+        var options = toBaseSearchOptions(search, query);
+        Specification<E> spec = (root, q, cb) -> JpaOmniSearchPredicateBuilder.buildPredicate(
+                getEntityManager(),
+                cb,
+                root,
+                options
+        );
+        return scroll(restrict(spec, CrudOperation.PAGE), position, sort, limit);
+    }
+
+    @Override
+    default Stream<E> internalStream(Sort sort) {
+        Specification<E> spec = (root, query, cb) -> null;
+        return stream(restrict(spec, CrudOperation.PAGE), sort);
+    }
+
+    @Override
+    default Stream<E> internalStream(String search, Sort sort) {
+        return internalStream(search, sort, null);
+    }
+
+    @Override
+    default Stream<E> internalStream(String search, Sort sort, Node query) {
+        var options = toBaseSearchOptions(search, query);
+        Specification<E> spec = (root, q, cb) -> JpaOmniSearchPredicateBuilder.buildPredicate(
+                getEntityManager(),
+                cb,
+                root,
+                options
+        );
+        return stream(restrict(spec, CrudOperation.PAGE), sort);
     }
 
     @Override
     default E internalFind(ID id) {
         Specification<E> spec = (root, query, cb) -> cb.equal(root.get(getIdFieldName()), id);
-        return getRepository().findOne(combineSpecification(spec, CrudOperation.FIND)).orElseThrow(() -> new NotFoundEntityException(getEntityClass(), id));
+        return getRepository().findOne(restrict(spec, CrudOperation.FIND)).orElseThrow(() -> new NotFoundEntityException(getEntityClass(), id));
+    }
+
+    @Override
+    default Map<String, Object> internalFind(ID id, List<String> fields) {
+        Specification<E> spec = (root, query, cb) -> cb.equal(root.get(getIdFieldName()), id);
+        return Projections.findOne(getEntityManager(), getEntityClass(), fields, restrict(spec, CrudOperation.FIND))
+                .orElseThrow(() -> new NotFoundEntityException(getEntityClass(), id));
     }
 
     @Override
     default List<E> internalFind(List<ID> ids) {
-        Specification<E> spec = (root, query, cb) -> root.get(getIdFieldName()).in(ids);
-        return getRepository().findAll(combineSpecification(spec, CrudOperation.FIND));
+        var restriction = RowAuthorizations.<E>restriction(this, getEntityManager(), CrudOperation.FIND);
+        return MultiGetUtils.findAll(ids, getMultiGetChunkSize(), getMultiGetExecutor(), chunk -> {
+            Specification<E> spec = (root, query, cb) -> root.get(getIdFieldName()).in(chunk);
+            return getRepository().findAll(RowAuthorizations.and(combineSpecification(spec, CrudOperation.FIND), restriction));
+        });
     }
 
     @Override
     default long internalCount() {
         Specification<E> spec = (root, query, cb) -> null;
-        return getRepository().count(combineSpecification(spec, CrudOperation.COUNT));
+        return getRepository().count(restrict(spec, CrudOperation.COUNT));
     }
 
 
@@ -88,13 +193,64 @@ public interface JpaSpecificationReadService<E extends Persistable<ID>, ID, R ex
                 root,
                 options
         );
-        return getRepository().count(combineSpecification(spec, CrudOperation.COUNT));
+        return getRepository().count(restrict(spec, CrudOperation.COUNT));
     }
 
     @Override
     default boolean internalExists(ID id) {
         Specification<E> spec = (root, query, cb) -> cb.equal(root.get(getIdFieldName()), id);
-        return getRepository().exists(combineSpecification(spec, CrudOperation.EXISTS));
+        return getRepository().exists(restrict(spec, CrudOperation.EXISTS));
+    }
+
+    @Override
+    default boolean isRowRestricted(CrudOperation operation) {
+        return RowAuthorizations.<E>restriction(this, getEntityManager(), operation) != null;
+    }
+
+    /**
+     * Whether a transaction is active or an entity manager of the factory, such as the one opened by open-in-view,
+     * is bound to the current thread.
+     */
+    @Override
+    default boolean isSessionBound() {
+        return ReadService.super.isSessionBound() || TransactionSynchronizationManager.hasResource(getEntityManager().getEntityManagerFactory());
+    }
+
+    private Specification<E> restrict(Specification<E> spec, CrudOperation operation) {
+        var restriction = RowAuthorizations.<E>restriction(this, getEntityManager(), operation);
+        return RowAuthorizations.and(combineSpecification(spec, operation), restriction);
+    }
+
+    private Window<E> scroll(Specification<E> spec, ScrollPosition position, Sort sort, int limit) {
+        var typed = position instanceof KeysetScrollPosition keyset
+                ? ScrollPositionUtils.typed(keyset, getEntityClass())
+                : position;
+        return getRepository().findBy(spec, query -> query.sortBy(sort).limit(limit).scroll(typed));
+    }
+
+    private Stream<E> stream(Specification<E> spec, Sort sort) {
+        Stream<E> stream = EntityStreams.open(getEntityManager(), () -> getRepository().findBy(spec, query -> query.sortBy(sort).stream()));
+        return EntityStreams.detaching(getEntityManager(), stream);
+    }
+
+    private Page<E> page(Specification<E> specification, Pageable pageable) {
+        var executor = getCountExecutor();
+        if (executor == null) {
+            return getRepository().findAll(specification, pageable);
+        }
+        return ConcurrentCounts.getPage(
+                getEntityManager(),
+                () -> getRepository().findBy(specification, query -> query.slice(pageable)).getContent(),
+                pageable,
+                em -> count(em, specification),
+                executor
+        );
+    }
+
+    private long count(EntityManager entityManager, Specification<E> specification) {
+        return entityManager == getEntityManager()
+                ? getRepository().count(specification)
+                : ConcurrentCounts.count(entityManager, getEntityClass(), specification);
     }
 
     default String getIdFieldName() {
@@ -1,9 +1,16 @@
 package io.github.luidmidev.springframework.data.crud.jpa;
 
 
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
 import io.github.luidmidev.springframework.data.crud.core.StandardWriteService;
+import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
+import io.github.luidmidev.springframework.data.crud.jpa.providers.EntityManagerProvider;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
 
 /**
  * CRUD Service for JPA
@@ -15,4 +22,131 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface JpaWriteService<E extends Persistable<ID>, D, ID, R extends JpaRepository<E, ID>> extends
         StandardWriteService<E, D, ID, R> {
+
+    /**
+     * Saves the entities in chunks of {@link #getBatchSize()}, flushing after each chunk so Hibernate can group the
+     * inserts in JDBC batches ({@code hibernate.jdbc.batch_size}). The entities of every chunk but the last are then
+     * detached, so the persistence context does not grow with the size of the list; the rest of the context of the
+     * caller is left untouched. Detached entities are passed as they are to the create hooks. Without an active
+     * transaction, or when the service does not provide its {@link EntityManager}, the entities are saved at once.
+     */
+    @Override
+    default void internalCreate(List<E> entities) {
+        var entityManager = entityManager();
+        if (entityManager == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            StandardWriteService.super.internalCreate(entities);
+            return;
+        }
+
+        var repository = getRepository();
+        var batchSize = getBatchSize();
+
+        for (var from = 0; from < entities.size(); from += batchSize) {
+            var to = Math.min(from + batchSize, entities.size());
+            var chunk = entities.subList(from, to);
+            var saved = repository.saveAll(chunk);
+            for (var i = 0; i < saved.size(); i++) {
+                chunk.set(i, saved.get(i));
+            }
+            repository.flush();
+            if (to < entities.size()) {
+                chunk.forEach(entityManager::detach);
+            }
+        }
+    }
+
+    /**
+     * Relies on dirty checking when the entity is managed by the current transaction, so the update costs a single
+     * {@code UPDATE} at flush time instead of a {@code merge}. Entities with a {@code @Version} attribute are
+     * checked for concurrent modifications by the same statement.
+     */
+    @Override
+    default void internalUpdate(E entity) {
+        var entityManager = entityManager();
+        if (entityManager != null && TransactionSynchronizationManager.isActualTransactionActive() && entityManager.contains(entity)) {
+            return;
+        }
+        StandardWriteService.super.internalUpdate(entity);
+    }
+
+    /**
+     * Loads the entity with the {@code FIND} row restriction of the service and the one of the write operation, so
+     * an update or delete only finds the rows the authentication can both read and change. Without a restriction of
+     * the operation, the entity is loaded with {@link #internalFind(Object)}.
+     */
+    @Override
+    default E internalFind(ID id, CrudOperation operation) {
+        var entityManager = entityManager();
+        var restriction = entityManager == null ? null : RowAuthorizations.<E>restriction(this, entityManager, operation);
+        if (restriction == null) {
+            return internalFind(id);
+        }
+
+        var entityClass = getEntityClass();
+        var information = JpaEntityInformationCache.get(entityClass, entityManager);
+        var specification = RowAuthorizations.and(
+                RowAuthorizations.byId(information, id).and(restriction),
+                RowAuthorizations.<E>restriction(this, entityManager, CrudOperation.FIND)
+        );
+        return RowAuthorizations.findOne(entityManager, entityClass, specification)
+                .orElseThrow(() -> new NotFoundEntityException(entityClass, id));
+    }
+
+    /**
+     * Deletes the entities with a single {@code DELETE ... WHERE id IN (...)} statement per chunk of
+     * {@link #getBatchSize()} ids, without loading them, after checking with a count that every id of the chunk has
+     * an entity. Entities whose delete must go through their lifecycle (soft deletes, remove callbacks, cascaded or
+     * orphan removed associations, element collections or many-to-many join tables), and services whose rows are
+     * restricted for the authentication, load and delete the entities one by one instead, through
+     * {@link #internalFind(Object, CrudOperation)}.
+     *
+     * @throws NotFoundEntityException if an id has no entity
+     */
+    @Override
+    default void internalDeleteAllById(List<ID> ids) {
+        var entityClass = getEntityClass();
+        var entityManager = entityManager();
+        if (entityManager == null || !BulkDeletes.isSupported(entityClass) || isRestricted(entityManager)) {
+            StandardWriteService.super.internalDeleteAllById(ids);
+            return;
+        }
+
+        var repository = getRepository();
+        var information = JpaEntityInformationCache.get(entityClass, entityManager);
+        var batchSize = getBatchSize();
+
+        for (var from = 0; from < ids.size(); from += batchSize) {
+            var chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            if (ConcurrentCounts.count(entityManager, entityClass, RowAuthorizations.byIds(information, chunk)) < chunk.size()) {
+                var missing = chunk.stream()
+                        .filter(id -> ConcurrentCounts.count(entityManager, entityClass, RowAuthorizations.byId(information, id)) == 0)
+                        .findFirst()
+                        .orElse(null);
+                throw new NotFoundEntityException(entityClass, missing);
+            }
+            repository.deleteAllByIdInBatch(chunk);
+        }
+    }
+
+    /**
+     * Number of entities written between two flushes, or ids deleted by a single statement, in a batch operation.
+     * It should be a multiple of {@code hibernate.jdbc.batch_size} and below the bind parameter limit of the
+     * database.
+     */
+    default int getBatchSize() {
+        return 500;
+    }
+
+    private boolean isRestricted(EntityManager entityManager) {
+        return RowAuthorizations.restriction(this, entityManager, CrudOperation.DELETE) != null
+                || RowAuthorizations.restriction(this, entityManager, CrudOperation.FIND) != null;
+    }
+
+    /**
+     * Returns the entity manager of the service if it is an {@link EntityManagerProvider}, as the JPA CRUD services
+     * are, or {@code null} otherwise.
+     */
+    private EntityManager entityManager() {
+        return this instanceof EntityManagerProvider provider ? provider.getEntityManager() : null;
+    }
 }
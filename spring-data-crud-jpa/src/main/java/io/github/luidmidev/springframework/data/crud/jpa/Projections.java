@@ -0,0 +1,76 @@
+package io.github.luidmidev.springframework.data.crud.jpa;
+
+import io.github.luidmidev.springframework.data.crud.core.utils.ProjectionUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Selection;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.mapping.PropertyPath;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.ToLongFunction;
+
+/**
+ * Runs projection queries that select only the requested fields of an entity as a {@link Tuple}, so the database
+ * returns, and Hibernate hydrates, only those columns. Optional associations in a field path are joined with a left
+ * outer join, so entities without them are still returned.
+ */
+@UtilityClass
+class Projections {
+
+    static <E> Page<Map<String, Object>> page(EntityManager entityManager, Class<E> entityClass, List<String> fields, Specification<E> specification, Pageable pageable, ToLongFunction<EntityManager> count, Executor countExecutor) {
+        var paths = ProjectionUtils.paths(fields, entityClass);
+        var query = createQuery(entityManager, entityClass, paths, specification, pageable.getSort());
+
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        return ConcurrentCounts.getPage(
+                entityManager,
+                () -> query.getResultList().stream()
+                        .map(tuple -> ProjectionUtils.toMap(paths, tuple.toArray()))
+                        .toList(),
+                pageable,
+                count,
+                countExecutor
+        );
+    }
+
+    static <E> Optional<Map<String, Object>> findOne(EntityManager entityManager, Class<E> entityClass, List<String> fields, Specification<E> specification) {
+        var paths = ProjectionUtils.paths(fields, entityClass);
+        return createQuery(entityManager, entityClass, paths, specification, Sort.unsorted())
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst()
+                .map(tuple -> ProjectionUtils.toMap(paths, tuple.toArray()));
+    }
+
+    private static <E> TypedQuery<Tuple> createQuery(EntityManager entityManager, Class<E> entityClass, List<PropertyPath> paths, Specification<E> specification, Sort sort) {
+        var cb = entityManager.getCriteriaBuilder();
+        var criteria = cb.createTupleQuery();
+        var root = criteria.from(entityClass);
+
+        criteria.multiselect(paths.stream()
+                .<Selection<?>>map(path -> QueryUtils.toExpressionRecursively(root, path, true))
+                .toList());
+
+        var predicate = specification.toPredicate(root, criteria, cb);
+        if (predicate != null) {
+            criteria.where(predicate);
+        }
+        criteria.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(criteria);
+    }
+}
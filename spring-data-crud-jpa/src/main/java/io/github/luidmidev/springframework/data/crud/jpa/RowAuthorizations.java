@@ -0,0 +1,88 @@
+package io.github.luidmidev.springframework.data.crud.jpa;
+
+import io.github.luidmidev.omnisearch.jpa.JpaOmniSearchPredicateBuilder;
+import io.github.luidmidev.springframework.data.crud.core.AuthorizedCrud;
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Predicate;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+/**
+ * Resolves the row-level restriction of an operation, the {@code AND} of the RSQL row filter of an
+ * {@link AuthorizedCrud} service and the specification of an {@link AuthorizedSpecificationCrud} service, so it can
+ * be added to the query of the operation. Services that are not authorized are never restricted, and never touch the
+ * security context.
+ */
+@UtilityClass
+class RowAuthorizations {
+
+    /**
+     * Returns the restriction of the operation for the authentication of the current security context, or
+     * {@code null} if the rows are not restricted. Both contributions are resolved eagerly, so the returned
+     * specification can be applied on another thread.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> Specification<E> restriction(Object service, EntityManager entityManager, CrudOperation operation) {
+        if (!(service instanceof AuthorizedCrud authorizedCrud)) {
+            return null;
+        }
+
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        var filter = authorizedCrud.getRowFilter(authentication, operation);
+        var specification = service instanceof AuthorizedSpecificationCrud<?> specificationCrud
+                ? (Specification<E>) specificationCrud.getRowSpecification(authentication, operation)
+                : null;
+        if (filter == null) {
+            return specification;
+        }
+
+        var options = OmniSearchOptionsFactory.create(null, filter);
+        Specification<E> filtered = (root, query, cb) -> JpaOmniSearchPredicateBuilder.buildPredicate(entityManager, cb, root, options);
+        return and(filtered, specification);
+    }
+
+    /**
+     * Returns the first entity that matches the specification.
+     */
+    static <E> Optional<E> findOne(EntityManager entityManager, Class<E> entityClass, Specification<E> specification) {
+        var cb = entityManager.getCriteriaBuilder();
+        var criteria = cb.createQuery(entityClass);
+        var root = criteria.from(entityClass);
+        var predicate = specification.toPredicate(root, criteria, cb);
+        if (predicate != null) {
+            criteria.where(predicate);
+        }
+        return entityManager.createQuery(criteria).setMaxResults(1).getResultStream().findFirst();
+    }
+
+    static <E> Specification<E> and(Specification<E> specification, Specification<E> restriction) {
+        return restriction == null ? specification : specification.and(restriction);
+    }
+
+    static <E> Specification<E> byId(JpaEntityInformation<E, ?> information, Object id) {
+        if (!information.hasCompositeId()) {
+            var idAttribute = information.getRequiredIdAttribute().getName();
+            return (root, query, cb) -> cb.equal(root.get(idAttribute), id);
+        }
+        return (root, query, cb) -> cb.and(StreamSupport.stream(information.getIdAttributeNames().spliterator(), false)
+                .map(name -> cb.equal(root.get(name), information.getCompositeIdAttributeValue(id, name)))
+                .toArray(Predicate[]::new));
+    }
+
+    static <E> Specification<E> byIds(JpaEntityInformation<E, ?> information, Collection<?> ids) {
+        if (!information.hasCompositeId()) {
+            var idAttribute = information.getRequiredIdAttribute().getName();
+            return (root, query, cb) -> root.get(idAttribute).in(ids);
+        }
+        return (root, query, cb) -> cb.or(ids.stream()
+                .map(id -> byId(information, id).toPredicate(root, query, cb))
+                .toArray(Predicate[]::new));
+    }
+}
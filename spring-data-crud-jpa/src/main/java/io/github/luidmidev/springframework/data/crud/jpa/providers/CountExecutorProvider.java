@@ -0,0 +1,26 @@
+package io.github.luidmidev.springframework.data.crud.jpa.providers;
+
+import java.util.concurrent.Executor;
+
+public interface CountExecutorProvider {
+
+    /**
+     * Executor of the count query of {@code page} operations. When set, the count runs on it with its own
+     * {@code EntityManager}, and therefore its own connection, concurrently with the query of the content, so the
+     * latency of a page approaches the slowest of both queries instead of their sum. Defaults to {@code null}, which
+     * runs the count after the content on the calling thread.
+     * <p>
+     * The count is still run on the calling thread inside a read-write transaction, whose pending changes are not
+     * visible from another connection.
+     * </p>
+     * <p>
+     * A page served this way needs two connections at once: the request thread keeps its own while it waits for the
+     * count. Size the connection pool for twice the concurrent page requests (or bound the executor below the pool
+     * size), otherwise requests holding a connection can exhaust the pool and wait on counts that cannot get one until
+     * the pool times out.
+     * </p>
+     */
+    default Executor getCountExecutor() {
+        return null;
+    }
+}
@@ -16,7 +16,7 @@ public class WebCorsConfig {
             public void addCorsMappings(@NotNull CorsRegistry registry) {
                 registry.addMapping("/**") // aplica a todos los endpoints
                         .allowedOrigins("*") // o especifica: "http://localhost:3000"
-                        .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                        .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
                         .allowCredentials(false); // true si necesitas enviar cookies
             }
@@ -1,5 +1,7 @@
 package io.github.luidmidev.springframework.data.crud.jpa.dto;
 
+import io.github.luidmidev.springframework.data.crud.core.mapping.CrudMapper;
+import io.github.luidmidev.springframework.data.crud.jpa.models.Foo;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.Data;
 import org.jetbrains.annotations.NotNull;
@@ -7,6 +9,7 @@ import org.jetbrains.annotations.NotNull;
 import java.time.LocalDate;
 
 @Data
+@CrudMapper(entity = Foo.class)
 public class FooDto {
 
     @NotNull
@@ -2,12 +2,14 @@ package io.github.luidmidev.springframework.data.crud.jpa.models;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDate;
 
 @Data
 @Entity
+@DynamicUpdate
 public class Foo implements Persistable<Long> {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -3,12 +3,15 @@ package io.github.luidmidev.springframework.data.crud.jpa.services;
 import io.github.luidmidev.springframework.data.crud.jpa.JpaCrudService;
 import io.github.luidmidev.springframework.data.crud.jpa.models.Foo;
 import io.github.luidmidev.springframework.data.crud.jpa.dto.FooDto;
+import io.github.luidmidev.springframework.data.crud.jpa.dto.FooDtoMapper;
 import io.github.luidmidev.springframework.data.crud.jpa.repositories.FooRepostory;
 import jakarta.persistence.EntityManager;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 @Service
 @Getter
 @RequiredArgsConstructor
@@ -19,10 +22,17 @@ public class FooService implements JpaCrudService<Foo, FooDto, Long, FooRepostor
 
     @Override
     public void mapModel(FooDto dto, Foo model) {
-        model.setName(dto.getName());
-        model.setDescription(dto.getDescription());
-        model.setEmail(dto.getEmail());
-        model.setDate(dto.getDate());
+        FooDtoMapper.mapModel(dto, model);
+    }
+
+    @Override
+    public void patchModel(FooDto dto, Foo model, Set<String> fields) {
+        FooDtoMapper.patchModel(dto, model, fields);
+    }
+
+    @Override
+    public Set<String> getProjectableFields() {
+        return Set.of("id", "name", "description", "date");
     }
 
     @Override
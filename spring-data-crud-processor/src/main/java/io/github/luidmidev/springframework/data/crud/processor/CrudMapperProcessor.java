@@ -0,0 +1,331 @@
+package io.github.luidmidev.springframework.data.crud.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the mappers of the DTOs annotated with {@code @CrudMapper}.
+ * <p>
+ * The processor only reads the annotation through its mirror, so it does not depend on the core module and can be
+ * used on the annotation processor path alone. Getters and setters generated by Lombok are not visible when this
+ * processor runs before Lombok, so a field of a class (or field) annotated with {@code @Data}, {@code @Getter},
+ * {@code @Setter} or {@code @Value} is assumed to have the accessors Lombok generates.
+ * </p>
+ */
+@SupportedAnnotationTypes(CrudMapperProcessor.ANNOTATION)
+public class CrudMapperProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "io.github.luidmidev.springframework.data.crud.core.mapping.CrudMapper";
+
+    private static final String LOMBOK_DATA = "lombok.Data";
+    private static final String LOMBOK_VALUE = "lombok.Value";
+    private static final String LOMBOK_GETTER = "lombok.Getter";
+    private static final String LOMBOK_SETTER = "lombok.Setter";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+
+        for (var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) {
+                error(element, "@CrudMapper can only be applied to classes and records");
+                continue;
+            }
+            try {
+                generate((TypeElement) element, annotationMirror(element));
+            } catch (IOException e) {
+                error(element, "Could not write the mapper of " + element + ": " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement dto, AnnotationMirror annotation) throws IOException {
+        var entity = entity(annotation);
+        var ignored = ignored(annotation);
+
+        var readable = readableProperties(dto);
+        var writable = writableProperties(entity);
+        var types = processingEnv.getTypeUtils();
+
+        var mappings = new ArrayList<Mapping>();
+        for (var property : readable.entrySet()) {
+            var name = property.getKey();
+            var target = writable.get(name);
+            if (target == null || ignored.contains(name)) {
+                continue;
+            }
+            var source = property.getValue();
+            if (!types.isAssignable(source.type(), target.type())) {
+                processingEnv.getMessager().printMessage(
+                        Diagnostic.Kind.WARNING,
+                        "Property '" + name + "' is not mapped: " + source.type() + " is not assignable to " + target.type(),
+                        dto
+                );
+                continue;
+            }
+            mappings.add(new Mapping(name, source, target));
+        }
+
+        var packageName = processingEnv.getElementUtils().getPackageOf(dto).getQualifiedName().toString();
+        var mapperName = mapperName(dto);
+        var qualifiedName = packageName.isEmpty() ? mapperName : packageName + "." + mapperName;
+        var dtoName = dto.getQualifiedName().toString();
+        var entityName = entity.getQualifiedName().toString();
+
+        var file = processingEnv.getFiler().createSourceFile(qualifiedName, dto);
+        try (var out = new PrintWriter(file.openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("public final class " + mapperName + " {");
+            out.println();
+            out.println("    private " + mapperName + "() {");
+            out.println("    }");
+            out.println();
+
+            out.println("    public static void mapModel(" + dtoName + " dto, " + entityName + " model) {");
+            for (var mapping : mappings) {
+                out.println("        " + mapping.assignment() + ";");
+            }
+            out.println("    }");
+            out.println();
+
+            out.println("    public static void mapModelIgnoringNulls(" + dtoName + " dto, " + entityName + " model) {");
+            for (var mapping : mappings) {
+                if (mapping.source().type().getKind().isPrimitive()) {
+                    out.println("        " + mapping.assignment() + ";");
+                } else {
+                    out.println("        if (dto." + mapping.source().accessor() + " != null) {");
+                    out.println("            " + mapping.assignment() + ";");
+                    out.println("        }");
+                }
+            }
+            out.println("    }");
+            out.println();
+
+            out.println("    public static void patchModel(" + dtoName + " dto, " + entityName + " model, java.util.Set<java.lang.String> fields) {");
+            out.println("        for (var field : fields) {");
+            out.println("            switch (field) {");
+            for (var mapping : mappings) {
+                out.println("                case \"" + mapping.name() + "\" -> " + mapping.assignment() + ";");
+            }
+            out.println("                default -> {");
+            out.println("                }");
+            out.println("            }");
+            out.println("        }");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private Map<String, Property> readableProperties(TypeElement type) {
+        var properties = new LinkedHashMap<String, Property>();
+        var members = processingEnv.getElementUtils().getAllMembers(type);
+
+        if (type.getKind() == ElementKind.RECORD) {
+            for (var component : type.getRecordComponents()) {
+                var name = component.getSimpleName().toString();
+                properties.put(name, new Property(component.asType(), name + "()"));
+            }
+            return properties;
+        }
+
+        for (var method : ElementFilter.methodsIn(members)) {
+            if (!isAccessible(method) || !method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+                continue;
+            }
+            var methodName = method.getSimpleName().toString();
+            var name = propertyName(methodName, "get");
+            if (name == null && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+                name = propertyName(methodName, "is");
+            }
+            if (name != null && !name.equals("class")) {
+                properties.putIfAbsent(name, new Property(method.getReturnType(), methodName + "()"));
+            }
+        }
+
+        for (var field : ElementFilter.fieldsIn(members)) {
+            var name = field.getSimpleName().toString();
+            if (field.getModifiers().contains(Modifier.STATIC) || properties.containsKey(name)) {
+                continue;
+            }
+            if (hasLombokAccessor(field, LOMBOK_GETTER, LOMBOK_DATA, LOMBOK_VALUE)) {
+                var prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+                properties.put(name, new Property(field.asType(), prefix + capitalize(name) + "()"));
+            } else if (isAccessible(field)) {
+                properties.put(name, new Property(field.asType(), name));
+            }
+        }
+        return properties;
+    }
+
+    private Map<String, Property> writableProperties(TypeElement type) {
+        var properties = new LinkedHashMap<String, Property>();
+        var members = processingEnv.getElementUtils().getAllMembers(type);
+
+        for (var method : ElementFilter.methodsIn(members)) {
+            if (!isAccessible(method) || method.getParameters().size() != 1) {
+                continue;
+            }
+            var methodName = method.getSimpleName().toString();
+            var name = propertyName(methodName, "set");
+            if (name != null) {
+                properties.putIfAbsent(name, new Property(method.getParameters().getFirst().asType(), methodName + "("));
+            }
+        }
+
+        for (var field : ElementFilter.fieldsIn(members)) {
+            var name = field.getSimpleName().toString();
+            var modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL) || properties.containsKey(name)) {
+                continue;
+            }
+            if (hasLombokAccessor(field, LOMBOK_SETTER, LOMBOK_DATA)) {
+                properties.put(name, new Property(field.asType(), "set" + capitalize(name) + "("));
+            } else if (isAccessible(field)) {
+                properties.put(name, new Property(field.asType(), name + " = "));
+            }
+        }
+        return properties;
+    }
+
+    private TypeElement entity(AnnotationMirror annotation) {
+        var value = annotationValue(annotation, "entity");
+        return (TypeElement) ((DeclaredType) value.getValue()).asElement();
+    }
+
+    private Set<String> ignored(AnnotationMirror annotation) {
+        var ignored = new HashSet<String>();
+        var value = annotationValue(annotation, "ignore");
+        if (value != null) {
+            @SuppressWarnings("unchecked")
+            var values = (List<? extends AnnotationValue>) value.getValue();
+            for (var name : values) {
+                ignored.add((String) name.getValue());
+            }
+        }
+        return ignored;
+    }
+
+    private static AnnotationMirror annotationMirror(Element element) {
+        for (var mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(ANNOTATION)) {
+                return mirror;
+            }
+        }
+        throw new IllegalStateException(element + " is not annotated with @CrudMapper");
+    }
+
+    private static AnnotationValue annotationValue(AnnotationMirror annotation, String name) {
+        for (var entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasLombokAccessor(VariableElement field, String... annotations) {
+        return hasAnyAnnotation(field, annotations) || hasAnyAnnotation(field.getEnclosingElement(), annotations);
+    }
+
+    private static boolean hasAnyAnnotation(Element element, String... annotations) {
+        for (var mirror : element.getAnnotationMirrors()) {
+            var name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName();
+            for (var annotation : annotations) {
+                if (name.contentEquals(annotation)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAccessible(Element member) {
+        var modifiers = member.getModifiers();
+        return modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC);
+    }
+
+    private static String propertyName(String methodName, String prefix) {
+        if (methodName.length() <= prefix.length() || !methodName.startsWith(prefix)) {
+            return null;
+        }
+        var name = methodName.substring(prefix.length());
+        if (!Character.isUpperCase(name.charAt(0))) {
+            return null;
+        }
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String mapperName(TypeElement dto) {
+        var name = new StringBuilder(dto.getSimpleName());
+        var enclosing = dto.getEnclosingElement();
+        while (!(enclosing instanceof PackageElement)) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append("Mapper").toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * @param type     the type of the property
+     * @param accessor the expression reading the property, or the beginning of the expression writing it
+     */
+    private record Property(TypeMirror type, String accessor) {
+    }
+
+    private record Mapping(String name, Property source, Property target) {
+
+        String assignment() {
+            var value = "dto." + source.accessor();
+            return target.accessor().endsWith("(")
+                    ? "model." + target.accessor() + value + ")"
+                    : "model." + target.accessor() + value;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.utils.StringUtils;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.relational.core.dialect.Escaper;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+
+import java.util.List;
+
+@UtilityClass
+class R2dbcCriteriaFactory {
+
+    static Criteria create(String search, Node query, RelationalPersistentEntity<?> entity, List<String> searchFields) {
+        var criteria = Criteria.empty();
+        if (!StringUtils.isBlank(search) && !searchFields.isEmpty()) {
+            criteria = criteria.and(search(search, searchFields));
+        }
+        if (query != null) {
+            criteria = criteria.and(query.accept(new RsqlCriteriaVisitor(entity)));
+        }
+        return criteria;
+    }
+
+    private static Criteria search(String search, List<String> searchFields) {
+        var pattern = "%" + Escaper.DEFAULT.escape(search) + "%";
+        Criteria criteria = null;
+        for (var field : searchFields) {
+            var fieldCriteria = Criteria.where(field).like(pattern).ignoreCase(true);
+            criteria = criteria == null ? fieldCriteria : criteria.or(fieldCriteria);
+        }
+        return criteria;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive CRUD Service for R2DBC
+ *
+ * @param <E>  Entity
+ * @param <D>  DTO
+ * @param <ID> ID
+ * @param <R>  Repository
+ */
+public interface R2dbcCrudService<E extends Persistable<ID>, D, ID, R extends R2dbcRepository<E, ID>> extends
+        R2dbcReadService<E, ID, R>,
+        R2dbcWriteService<E, D, ID, R>,
+        ReactiveCrudService<E, D, ID> {
+
+    @Override
+    default Mono<E> internalFind(ID id) {
+        return R2dbcReadService.super.internalFind(id);
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
+import io.github.luidmidev.springframework.data.crud.core.providers.EntityClassProvider;
+import io.github.luidmidev.springframework.data.crud.core.providers.RepositoryProvider;
+import io.github.luidmidev.springframework.data.crud.r2dbc.providers.R2dbcEntityOperationsProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reactive CRUD Service for R2DBC
+ *
+ * @param <E>  Entity
+ * @param <ID> ID
+ * @param <R>  Repository
+ */
+public interface R2dbcReadService<E extends Persistable<ID>, ID, R extends R2dbcRepository<E, ID>> extends
+        ReactiveReadService<E, ID>,
+        EntityClassProvider<E>,
+        RepositoryProvider<R>,
+        R2dbcEntityOperationsProvider {
+
+    @Override
+    default Mono<Page<E>> internalPage(Pageable pageable) {
+        return page(Criteria.empty(), pageable);
+    }
+
+    @Override
+    default Mono<Page<E>> internalSearch(String search, Pageable pageable) {
+        return internalSearch(search, pageable, null);
+    }
+
+    @Override
+    default Mono<Page<E>> internalSearch(String search, Pageable pageable, Node query) {
+        return page(toCriteria(search, query), pageable);
+    }
+
+    @Override
+    default Flux<E> internalStream(Sort sort) {
+        return internalStream(null, sort, null);
+    }
+
+    @Override
+    default Flux<E> internalStream(String search, Sort sort) {
+        return internalStream(search, sort, null);
+    }
+
+    @Override
+    default Flux<E> internalStream(String search, Sort sort, Node query) {
+        return getEntityOperations().select(Query.query(toCriteria(search, query)).sort(sort), getEntityClass());
+    }
+
+    @Override
+    default Mono<E> internalFind(ID id) {
+        return getRepository().findById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundEntityException(getEntityClass(), id)));
+    }
+
+    @Override
+    default Flux<E> internalFind(List<ID> ids) {
+        var distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.remove(null);
+        return Flux.fromIterable(distinct)
+                .buffer(getMultiGetChunkSize())
+                .concatMap(chunk -> getRepository().findAllById(chunk))
+                .collectMap(Persistable::getId)
+                .flatMapIterable(found -> distinct.stream().map(found::get).filter(Objects::nonNull).toList());
+    }
+
+    /**
+     * Returns the maximum number of ids loaded by a single query of {@link #internalFind(List)}. The entities are
+     * returned in the order of their ids, once per distinct id.
+     *
+     * @return the maximum number of ids per query
+     */
+    default int getMultiGetChunkSize() {
+        return 512;
+    }
+
+    @Override
+    default Mono<Long> internalCount() {
+        return getRepository().count();
+    }
+
+    @Override
+    default Mono<Long> internalCount(String search) {
+        return internalCount(search, null);
+    }
+
+    @Override
+    default Mono<Long> internalCount(String search, Node query) {
+        return getEntityOperations().count(Query.query(toCriteria(search, query)), getEntityClass());
+    }
+
+    @Override
+    default Mono<Boolean> internalExists(ID id) {
+        return getRepository().existsById(id);
+    }
+
+    default Criteria toCriteria(String search, Node query) {
+        return R2dbcCriteriaFactory.create(search, query, getPersistentEntity(), getSearchFields());
+    }
+
+    /**
+     * Properties matched against the search term with a case-insensitive {@code LIKE}. Defaults to every string
+     * property of the entity.
+     */
+    default List<String> getSearchFields() {
+        var fields = new ArrayList<String>();
+        for (RelationalPersistentProperty property : getPersistentEntity()) {
+            if (property.getType() == String.class) {
+                fields.add(property.getName());
+            }
+        }
+        return fields;
+    }
+
+    default RelationalPersistentEntity<?> getPersistentEntity() {
+        return getEntityOperations().getConverter().getMappingContext().getRequiredPersistentEntity(getEntityClass());
+    }
+
+    private Mono<Page<E>> page(Criteria criteria, Pageable pageable) {
+        var operations = getEntityOperations();
+        var entityClass = getEntityClass();
+        var content = operations.select(Query.query(criteria).with(pageable), entityClass);
+        var count = Mono.defer(() -> operations.count(Query.query(criteria), entityClass));
+        return ReactivePages.of(content, pageable, count);
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+
+import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
+import io.github.luidmidev.springframework.data.crud.core.providers.RepositoryProvider;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive CRUD Service for R2DBC
+ *
+ * @param <E>  Entity
+ * @param <D>  DTO
+ * @param <ID> ID
+ * @param <R>  Repository
+ */
+public interface R2dbcWriteService<E extends Persistable<ID>, D, ID, R extends R2dbcRepository<E, ID>> extends
+        ReactiveWriteService<E, D, ID>,
+        RepositoryProvider<R> {
+
+    @Override
+    default Mono<E> internalFind(ID id) {
+        return getRepository().findById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundEntityException(getEntityClass(), id)));
+    }
+
+    @Override
+    default Mono<E> internalCreate(E entity) {
+        return getRepository().save(entity);
+    }
+
+    @Override
+    default Mono<E> internalUpdate(E entity) {
+        return getRepository().save(entity);
+    }
+
+    @Override
+    default Mono<Void> internalDelete(E entity) {
+        return getRepository().delete(entity);
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+import io.github.luidmidev.springframework.data.crud.core.AuthorizedCrud;
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
+import lombok.experimental.UtilityClass;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Verifies the access of {@link AuthorizedCrud} services with the authentication of the reactive security context,
+ * since the operations do not run on the thread that received the request. Row filters are not applied to the reactive
+ * queries, so an operation with a row filter fails instead of reading every row.
+ */
+@UtilityClass
+class ReactiveAuthorization {
+
+    static Mono<Void> verifyAccess(AuthorizedCrud authorizedCrud, CrudOperation operation) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(context -> Optional.ofNullable(context.getAuthentication()))
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(authentication -> {
+                    AuthorizedCrud.verifyAccess(authorizedCrud, authentication.orElse(null), operation);
+                    if (authorizedCrud.getRowFilter(authentication.orElse(null), operation) != null) {
+                        throw new UnsupportedOperationException("Row filters are not supported by reactive services");
+                    }
+                })
+                .then();
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+
+import io.github.luidmidev.springframework.data.crud.core.AuthorizedCrud;
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCrud {
+
+    static Mono<Void> preProccess(ReactiveCrud crud, CrudOperation operation) {
+        if (crud instanceof AuthorizedCrud authorizedCrud) {
+            return ReactiveAuthorization.verifyAccess(authorizedCrud, operation);
+        }
+        return Mono.empty();
+    }
+}
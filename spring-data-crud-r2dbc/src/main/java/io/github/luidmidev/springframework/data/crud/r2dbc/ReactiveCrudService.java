@@ -0,0 +1,16 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+
+import io.github.luidmidev.springframework.data.crud.core.hooks.CrudHooks;
+import org.springframework.data.domain.Persistable;
+
+public interface ReactiveCrudService<E extends Persistable<ID>, D, ID> extends
+        ReactiveCrud,
+        ReactiveReadService<E, ID>,
+        ReactiveWriteService<E, D, ID> {
+
+    @Override
+    default CrudHooks<E, D, ID> getHooks() {
+        return CrudHooks.getDefault();
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link org.springframework.data.support.PageableExecutionUtils}: the count query is only
+ * subscribed when the total cannot be derived from the content of the page.
+ */
+@UtilityClass
+class ReactivePages {
+
+    static <E> Mono<Page<E>> of(Flux<E> content, Pageable pageable, Mono<Long> count) {
+        return content.collectList().flatMap(list -> {
+            if (pageable.isUnpaged() || pageable.getOffset() == 0) {
+                if (pageable.isUnpaged() || pageable.getPageSize() > list.size()) {
+                    return Mono.just(new PageImpl<>(list, pageable, list.size()));
+                }
+                return count.map(total -> new PageImpl<>(list, pageable, total));
+            }
+            if (!list.isEmpty() && pageable.getPageSize() > list.size()) {
+                return Mono.just(new PageImpl<>(list, pageable, pageable.getOffset() + list.size()));
+            }
+            return count.map(total -> new PageImpl<>(list, pageable, total));
+        });
+    }
+}
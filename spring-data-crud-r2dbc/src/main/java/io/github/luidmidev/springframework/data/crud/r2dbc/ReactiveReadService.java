@@ -0,0 +1,137 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
+import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
+import io.github.luidmidev.springframework.data.crud.core.hooks.ReadHooks;
+import io.github.luidmidev.springframework.data.crud.core.utils.StringUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Sort;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+
+@Validated
+public interface ReactiveReadService<E extends Persistable<ID>, ID> extends ReactiveCrud {
+
+    default ReadHooks<E, ID> getHooks() {
+        return ReadHooks.getDefault();
+    }
+
+    default Mono<Page<E>> page(String search, Pageable pageable, Node query) {
+        var normalized = StringUtils.normalize(search);
+        var hooks = getHooks();
+
+        return ReactiveCrud.preProccess(this, CrudOperation.PAGE)
+                .then(Mono.defer(() -> resolvePage(normalized, pageable, query)))
+                .doOnNext(hooks::onPage);
+    }
+
+    default Flux<E> stream(String search, Sort sort, Node query) {
+        var normalized = StringUtils.normalize(search);
+
+        return ReactiveCrud.preProccess(this, CrudOperation.PAGE)
+                .thenMany(Flux.defer(() -> resolveStream(normalized, sort, query)));
+    }
+
+    default Mono<E> find(ID id) {
+        var hooks = getHooks();
+
+        return ReactiveCrud.preProccess(this, CrudOperation.FIND)
+                .then(Mono.defer(() -> internalFind(id)))
+                .doOnNext(hooks::onFind);
+    }
+
+    default Flux<E> find(List<ID> ids) {
+        var hooks = getHooks();
+
+        return ReactiveCrud.preProccess(this, CrudOperation.FIND)
+                .then(Mono.defer(() -> internalFind(ids).collectList()))
+                .doOnNext(list -> hooks.onFind(list, ids))
+                .flatMapIterable(Function.identity());
+    }
+
+    default Mono<Long> count(String search, Node query) {
+        var normalized = StringUtils.normalize(search);
+        var hooks = getHooks();
+
+        return ReactiveCrud.preProccess(this, CrudOperation.COUNT)
+                .then(Mono.defer(() -> resolveCount(normalized, query)))
+                .doOnNext(hooks::onCount);
+    }
+
+    default Mono<Boolean> exists(ID id) {
+        var hooks = getHooks();
+
+        return ReactiveCrud.preProccess(this, CrudOperation.EXISTS)
+                .then(Mono.defer(() -> internalExists(id)))
+                .doOnNext(exists -> hooks.onExists(exists, id));
+    }
+
+    Mono<Page<E>> internalPage(Pageable pageable);
+
+    Mono<Page<E>> internalSearch(String search, Pageable pageable);
+
+    Mono<Page<E>> internalSearch(String search, Pageable pageable, Node query);
+
+    Flux<E> internalStream(Sort sort);
+
+    Flux<E> internalStream(String search, Sort sort);
+
+    Flux<E> internalStream(String search, Sort sort, Node query);
+
+    /**
+     * Emits the entity with the id, or fails with {@link NotFoundEntityException} if there is none.
+     */
+    Mono<E> internalFind(ID id);
+
+    Flux<E> internalFind(List<ID> ids);
+
+    Mono<Long> internalCount();
+
+    Mono<Long> internalCount(String search);
+
+    Mono<Long> internalCount(String search, Node query);
+
+    Mono<Boolean> internalExists(ID id);
+
+    private Mono<Page<E>> resolvePage(String search, Pageable pageable, Node query) {
+        if (query == null) {
+            if (search == null || search.isBlank()) {
+                return internalPage(pageable);
+            }
+            return internalSearch(search, pageable);
+        } else {
+            return internalSearch(search, pageable, query);
+        }
+    }
+
+    private Flux<E> resolveStream(String search, Sort sort, Node query) {
+        if (query == null) {
+            if (search == null || search.isBlank()) {
+                return internalStream(sort);
+            }
+            return internalStream(search, sort);
+        } else {
+            return internalStream(search, sort, query);
+        }
+    }
+
+    private Mono<Long> resolveCount(String search, Node query) {
+        if (query == null) {
+            if (search == null || search.isBlank()) {
+                return internalCount();
+            }
+            return internalCount(search);
+        } else {
+            return internalCount(search, query);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+
+import io.github.luidmidev.springframework.data.crud.core.CrudOperation;
+import io.github.luidmidev.springframework.data.crud.core.exceptions.NotFoundEntityException;
+import io.github.luidmidev.springframework.data.crud.core.hooks.WriteHooks;
+import io.github.luidmidev.springframework.data.crud.core.providers.EntityClassProvider;
+import io.github.luidmidev.springframework.data.crud.core.utils.InstantiationUtils;
+import io.github.luidmidev.springframework.data.crud.r2dbc.providers.TransactionalOperatorProvider;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.Persistable;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+
+@Validated
+public interface ReactiveWriteService<E extends Persistable<ID>, D, ID> extends
+        ReactiveCrud,
+        EntityClassProvider<E>,
+        TransactionalOperatorProvider {
+
+    default WriteHooks<E, D, ID> getHooks() {
+        return WriteHooks.getDefault();
+    }
+
+    default Mono<E> create(@Valid @NotNull D dto) {
+        var hooks = getHooks();
+
+        return ReactiveCrud.preProccess(this, CrudOperation.CREATE)
+                .then(transactional(Mono.defer(() -> {
+                    var entity = newEntity();
+                    mapModel(dto, entity);
+                    hooks.onBeforeCreate(dto, entity);
+                    return internalCreate(entity);
+                })))
+                .doOnNext(entity -> hooks.onAfterCreate(dto, entity));
+    }
+
+    default Mono<E> update(@NotNull ID id, @Valid @NotNull D dto) {
+        var hooks = getHooks();
+
+        return ReactiveCrud.preProccess(this, CrudOperation.UPDATE)
+                .then(transactional(Mono.defer(() -> internalFind(id))
+                        .flatMap(entity -> {
+                            mapModel(dto, entity);
+                            hooks.onBeforeUpdate(dto, entity);
+                            return internalUpdate(entity);
+                        })
+                        .doOnNext(entity -> hooks.onAfterUpdate(dto, entity))));
+    }
+
+    default Mono<Void> delete(@NotNull ID id) {
+        var hooks = getHooks();
+
+        return ReactiveCrud.preProccess(this, CrudOperation.DELETE)
+                .then(transactional(Mono.defer(() -> internalFind(id))
+                        .flatMap(entity -> {
+                            hooks.onBeforeDelete(entity);
+                            return internalDelete(entity).then(Mono.fromRunnable(() -> hooks.onAfterDelete(entity)));
+                        })))
+                .then();
+    }
+
+    default E newEntity() {
+        return InstantiationUtils.newInstance(getEntityClass());
+    }
+
+    /**
+     * Emits the entity with the id, or fails with {@link NotFoundEntityException} if there is none.
+     */
+    Mono<E> internalFind(ID id);
+
+    void mapModel(D dto, E model);
+
+    Mono<E> internalCreate(E entity);
+
+    Mono<E> internalUpdate(E entity);
+
+    Mono<Void> internalDelete(E entity);
+
+    private <T> Mono<T> transactional(Mono<T> operation) {
+        var transactionalOperator = getTransactionalOperator();
+        return transactionalOperator == null ? operation : transactionalOperator.transactional(operation);
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.NoArgRSQLVisitorAdapter;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.data.relational.core.dialect.Escaper;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Translates an RSQL query into a {@link Criteria} over the properties of an entity.
+ * <p>
+ * Supports the standard operators ({@code ==}, {@code !=}, {@code =lt=}, {@code =le=}, {@code =gt=}, {@code =ge=},
+ * {@code =in=} and {@code =out=}); an argument of {@code ==} or {@code !=} with {@code *} on a string property is
+ * a {@code LIKE} pattern. Only properties of the entity itself can be compared, since R2DBC has no joins. Arguments
+ * are converted to the type of the property, using ISO formats for dates and times.
+ * </p>
+ */
+class RsqlCriteriaVisitor extends NoArgRSQLVisitorAdapter<Criteria> {
+
+    private static final DefaultFormattingConversionService CONVERSION_SERVICE = createConversionService();
+
+    private final RelationalPersistentEntity<?> entity;
+
+    RsqlCriteriaVisitor(RelationalPersistentEntity<?> entity) {
+        this.entity = entity;
+    }
+
+    @Override
+    public Criteria visit(AndNode node) {
+        return Criteria.from(node.getChildren().stream().map(child -> child.accept(this)).toList());
+    }
+
+    /**
+     * The disjunction is returned as a group, so it keeps its precedence when it is combined with other criteria (a
+     * chain of {@code OR} criteria would otherwise bind weaker than an enclosing {@code AND}).
+     */
+    @Override
+    public Criteria visit(OrNode node) {
+        Criteria criteria = null;
+        for (var child : node.getChildren()) {
+            var childCriteria = child.accept(this);
+            criteria = criteria == null ? childCriteria : criteria.or(childCriteria);
+        }
+        return Criteria.empty().and(List.of(criteria));
+    }
+
+    @Override
+    public Criteria visit(ComparisonNode node) {
+        var selector = node.getSelector();
+        var property = entity.getPersistentProperty(selector);
+        if (property == null) {
+            throw new IllegalArgumentException("Unknown field '" + selector + "' for " + entity.getType().getSimpleName());
+        }
+
+        var type = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+        var column = Criteria.where(property.getName());
+        var arguments = node.getArguments();
+        var symbol = node.getOperator().getSymbol();
+
+        return switch (symbol) {
+            case "==" -> isPattern(type, arguments)
+                    ? column.like(toPattern(arguments.getFirst()))
+                    : column.is(convert(arguments.getFirst(), type));
+            case "!=" -> isPattern(type, arguments)
+                    ? column.notLike(toPattern(arguments.getFirst()))
+                    : column.not(convert(arguments.getFirst(), type));
+            case "=gt=" -> column.greaterThan(convert(arguments.getFirst(), type));
+            case "=ge=" -> column.greaterThanOrEquals(convert(arguments.getFirst(), type));
+            case "=lt=" -> column.lessThan(convert(arguments.getFirst(), type));
+            case "=le=" -> column.lessThanOrEquals(convert(arguments.getFirst(), type));
+            case "=in=" -> column.in(convert(arguments, type));
+            case "=out=" -> column.notIn(convert(arguments, type));
+            default -> throw new IllegalArgumentException("Unsupported RSQL operator: " + symbol);
+        };
+    }
+
+    private static boolean isPattern(Class<?> type, List<String> arguments) {
+        return type == String.class && arguments.getFirst().contains("*");
+    }
+
+    private static String toPattern(String argument) {
+        return Escaper.DEFAULT.escape(argument).replace('*', '%');
+    }
+
+    private static List<Object> convert(List<String> arguments, Class<?> type) {
+        return arguments.stream().map(argument -> convert(argument, type)).toList();
+    }
+
+    private static Object convert(String argument, Class<?> type) {
+        try {
+            return CONVERSION_SERVICE.convert(argument, type);
+        } catch (ConversionException e) {
+            throw new IllegalArgumentException("Invalid value '" + argument + "' for type " + type.getSimpleName(), e);
+        }
+    }
+
+    private static DefaultFormattingConversionService createConversionService() {
+        var conversionService = new DefaultFormattingConversionService();
+        var registrar = new DateTimeFormatterRegistrar();
+        registrar.setUseIsoFormat(true);
+        registrar.registerFormatters(conversionService);
+        return conversionService;
+    }
+}
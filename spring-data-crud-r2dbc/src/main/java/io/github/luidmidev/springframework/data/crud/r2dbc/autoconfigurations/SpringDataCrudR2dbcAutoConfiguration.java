@@ -0,0 +1,51 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.autoconfigurations;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.data.web.SpringDataWebProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * Autoconfiguration class for the reactive controllers of Spring Data CRUD.
+ * <p>
+ * Spring Boot only registers the {@code Pageable} and {@code Sort} argument resolvers for Spring MVC, so this
+ * configuration registers their reactive counterparts for WebFlux, configured with the same
+ * {@code spring.data.web.*} properties.
+ * </p>
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass({WebFluxConfigurer.class, ReactivePageableHandlerMethodArgumentResolver.class})
+@EnableConfigurationProperties(SpringDataWebProperties.class)
+public class SpringDataCrudR2dbcAutoConfiguration {
+
+    @Bean
+    public WebFluxConfigurer springDataCrudWebFluxConfigurer(SpringDataWebProperties properties) {
+        return new WebFluxConfigurer() {
+            @Override
+            public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+                var sortResolver = new ReactiveSortHandlerMethodArgumentResolver();
+                sortResolver.setSortParameter(properties.getSort().getSortParameter());
+
+                var pageable = properties.getPageable();
+                var pageableResolver = new ReactivePageableHandlerMethodArgumentResolver(sortResolver);
+                pageableResolver.setPageParameterName(pageable.getPageParameter());
+                pageableResolver.setSizeParameterName(pageable.getSizeParameter());
+                pageableResolver.setOneIndexedParameters(pageable.isOneIndexedParameters());
+                pageableResolver.setPrefix(pageable.getPrefix());
+                pageableResolver.setQualifierDelimiter(pageable.getQualifierDelimiter());
+                pageableResolver.setFallbackPageable(PageRequest.of(0, pageable.getDefaultPageSize()));
+                pageableResolver.setMaxPageSize(pageable.getMaxPageSize());
+
+                configurer.addCustomResolver(sortResolver, pageableResolver);
+            }
+        };
+    }
+}
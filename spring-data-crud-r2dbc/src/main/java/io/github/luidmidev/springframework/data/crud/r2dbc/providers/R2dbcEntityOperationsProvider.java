@@ -0,0 +1,8 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.providers;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+
+public interface R2dbcEntityOperationsProvider {
+
+    R2dbcEntityOperations getEntityOperations();
+}
@@ -0,0 +1,13 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.providers;
+
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+public interface TransactionalOperatorProvider {
+
+    /**
+     * Operator used to run each write operation in a transaction, or {@code null} to run them without one.
+     */
+    default TransactionalOperator getTransactionalOperator() {
+        return null;
+    }
+}
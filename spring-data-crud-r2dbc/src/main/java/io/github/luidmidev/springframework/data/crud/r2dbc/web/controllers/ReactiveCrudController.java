@@ -0,0 +1,21 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.web.controllers;
+
+import io.github.luidmidev.springframework.data.crud.r2dbc.ReactiveCrudService;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Reactive CRUD Controller for performing both read and write operations.
+ * <p>
+ * This controller combines {@link ReactiveReadController} and {@link ReactiveWriteController}, using the services
+ * defined in {@link ReactiveCrudService} for delegating the actual operations.
+ * </p>
+ *
+ * @param <M>  Entity model, which extends {@link Persistable} with an ID type of {@code ID}
+ * @param <D>  DTO (Data Transfer Object) used to transfer data for create and update operations
+ * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
+ * @param <S>  Service that extends {@link ReactiveCrudService} for the CRUD operations
+ */
+public interface ReactiveCrudController<M extends Persistable<ID>, D, ID, S extends ReactiveCrudService<M, D, ID>> extends
+        ReactiveWriteController<M, D, ID, S>,
+        ReactiveReadController<M, ID, S> {
+}
@@ -0,0 +1,98 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.web.controllers;
+
+
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.providers.ServiceProvider;
+import io.github.luidmidev.springframework.data.crud.core.utils.ResponseEntityUtils;
+import io.github.luidmidev.springframework.data.crud.core.web.export.Exporter;
+import io.github.luidmidev.springframework.data.crud.r2dbc.ReactiveReadService;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Reactive controller for exporting data in a specific format (e.g., CSV, Excel).
+ * <p>
+ * This controller provides the same endpoints as the servlet {@code ExportController} for WebFlux applications. The
+ * entities are read reactively, and the export itself, which is blocking, runs on the bounded elastic scheduler.
+ * </p>
+ *
+ * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
+ * @param <S>  Service that extends {@link ReactiveReadService} for the entity type
+ * @param <O>  Type of the options or configuration used for the export
+ */
+public interface ReactiveExportController<ID, S extends ReactiveReadService<?, ID>, O> extends ServiceProvider<S> {
+
+    /**
+     * Retrieves the exporter used for exporting data.
+     *
+     * @return the {@link Exporter} that handles the export process
+     */
+    Exporter<O> getExporter();
+
+    /**
+     * Retrieves the export options based on the provided parameters.
+     *
+     * @param params the parameters that may include fields, titles, and other options for the export
+     * @return the export options configured for the exporter
+     */
+    O getExportOptions(MultiValueMap<String, String> params);
+
+    /**
+     * Endpoint to export a page of data
+     *
+     * @param search   an optional search string to filter the results
+     * @param query    optional query in format RSQL
+     * @param params   rest parameters of the request
+     * @param pageable the pagination information
+     * @return a {@link ResponseEntity} containing the export file as a {@link ByteArrayResource}
+     */
+    @GetMapping("/export")
+    default Mono<ResponseEntity<ByteArrayResource>> exportPage(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query,
+            @RequestParam(required = false) MultiValueMap<String, String> params,
+            Pageable pageable
+    ) {
+        var options = getExportOptions(params);
+        return getService().page(search, pageable, query)
+                .publishOn(Schedulers.boundedElastic())
+                .map(entities -> export(entities, options));
+    }
+
+    /**
+     * Endpoint to export a single entity's
+     *
+     * @param params rest parameters of the request
+     * @param id     the ID of the entity to export
+     * @return a {@link ResponseEntity} containing the export file as a {@link ByteArrayResource}
+     */
+    @GetMapping("/export/{id}")
+    default Mono<ResponseEntity<ByteArrayResource>> exportFind(
+            @PathVariable ID id,
+            @RequestParam(required = false) MultiValueMap<String, String> params
+    ) {
+        params.remove("id");
+        var options = getExportOptions(params);
+        return getService().find(id)
+                .publishOn(Schedulers.boundedElastic())
+                .map(entity -> export(List.of(entity), options));
+    }
+
+    private ResponseEntity<ByteArrayResource> export(Iterable<?> entities, O options) {
+        var exported = getExporter().export(entities, options);
+        return ResponseEntityUtils.resource(
+                exported.getByteArray(),
+                exported.getFilename(),
+                exported.getMediaType()
+        );
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.web.controllers;
+
+
+import cz.jirutka.rsql.parser.ast.Node;
+import io.github.luidmidev.springframework.data.crud.core.providers.ServiceProvider;
+import io.github.luidmidev.springframework.data.crud.r2dbc.ReactiveReadService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive CRUD Controller for performing read operations.
+ * <p>
+ * This controller provides the same endpoints as the servlet {@code ReadController} for WebFlux applications,
+ * delegating to a {@link ReactiveReadService}, so no thread is held while the
+ * database query runs.
+ * </p>
+ *
+ * @param <M>  Entity model, which extends {@link Persistable} with an ID type of {@code ID}
+ * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
+ * @param <S>  Service that extends {@link ReactiveReadService} for the read operations
+ */
+public interface ReactiveReadController<M extends Persistable<ID>, ID, S extends ReactiveReadService<M, ID>> extends ServiceProvider<S> {
+
+    /**
+     * Endpoint to retrieve a paginated list of entities, with optional search and filter parameters.
+     *
+     * @param search   Optional search string to filter entities based on a search term
+     * @param query    Optional query in format RSQL
+     * @param pageable Pageable object to define pagination details (e.g., page number, page size)
+     * @return A paginated list of entities matching the search and filter criteria
+     */
+    @GetMapping
+    default Mono<ResponseEntity<Page<M>>> page(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query,
+            Pageable pageable
+    ) {
+        return getService().page(search, pageable, query).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to retrieve an entity by its unique identifier.
+     *
+     * @param id The unique identifier of the entity to retrieve
+     * @return The entity corresponding to the provided ID
+     */
+    @GetMapping("/{id}")
+    default Mono<ResponseEntity<M>> find(@PathVariable ID id) {
+        return getService().find(id).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to retrieve a list of entities by their unique identifiers.
+     *
+     * @param ids The list of IDs for the entities to retrieve
+     * @return A list of entities corresponding to the provided IDs
+     */
+    @GetMapping("/ids")
+    default Mono<ResponseEntity<List<M>>> find(@RequestParam List<ID> ids) {
+        return getService().find(ids).collectList().map(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to retrieve the total count of entities.
+     *
+     * @return The total number of entities in the repository
+     */
+    @GetMapping("/count")
+    default Mono<ResponseEntity<Long>> count(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query
+    ) {
+        return getService().count(search, query).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to check if an entity exists by its unique identifier.
+     *
+     * @param id The unique identifier of the entity to check
+     * @return {@code true} if the entity exists, {@code false} otherwise
+     */
+    @GetMapping("/exists")
+    default Mono<ResponseEntity<Boolean>> exists(@RequestParam ID id) {
+        return getService().exists(id).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.web.controllers;
+
+import io.github.luidmidev.springframework.data.crud.core.providers.ServiceProvider;
+import io.github.luidmidev.springframework.data.crud.r2dbc.ReactiveWriteService;
+import org.springframework.data.domain.Persistable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive CRUD Controller for performing write operations.
+ * <p>
+ * This controller provides the create, update and delete endpoints of the servlet {@code WriteController} for
+ * WebFlux applications, delegating to a {@link ReactiveWriteService}.
+ * </p>
+ *
+ * @param <M>  Entity model, which extends {@link Persistable} with an ID type of {@code ID}
+ * @param <D>  DTO (Data Transfer Object) used to transfer data for create and update operations
+ * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
+ * @param <S>  Service that extends {@link ReactiveWriteService} for the CRUD operations
+ */
+public interface ReactiveWriteController<M extends Persistable<ID>, D, ID, S extends ReactiveWriteService<M, D, ID>> extends ServiceProvider<S> {
+
+    /**
+     * Endpoint to create a new entity from a DTO.
+     *
+     * @param dto The DTO containing the data to create a new entity
+     * @return The newly created entity
+     */
+    @PostMapping
+    default Mono<ResponseEntity<M>> create(@RequestBody D dto) {
+        return getService().create(dto).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to update an existing entity by its unique identifier.
+     *
+     * @param id  The unique identifier of the entity to update
+     * @param dto The DTO containing the updated data for the entity
+     * @return The updated entity
+     */
+    @PutMapping("/{id}")
+    default Mono<ResponseEntity<M>> update(@PathVariable ID id, @RequestBody D dto) {
+        return getService().update(id, dto).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint to delete an entity by its unique identifier.
+     *
+     * @param id The unique identifier of the entity to delete
+     * @return A confirmation message indicating the entity was deleted
+     */
+    @DeleteMapping("/{id}")
+    default Mono<ResponseEntity<String>> delete(@PathVariable ID id) {
+        return getService().delete(id).then(Mono.fromSupplier(() -> ResponseEntity.ok(deletedMessage(id))));
+    }
+
+    /**
+     * Generates a message indicating the deletion of an entity.
+     *
+     * @param id The unique identifier of the entity that was deleted
+     * @return A string message confirming the deletion of the entity
+     */
+    default String deletedMessage(ID id) {
+        return "Deleted " + id;
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import io.github.luidmidev.springframework.data.crud.r2dbc.models.Foo;
+import io.github.luidmidev.springframework.data.crud.r2dbc.repositories.FooRepository;
+import io.github.luidmidev.springframework.data.crud.r2dbc.services.FooService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class R2dbcReadServiceTest {
+
+    private static final RSQLParser PARSER = new RSQLParser();
+
+    @Autowired
+    private FooService service;
+
+    @Autowired
+    private FooRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll()
+                .thenMany(repository.saveAll(List.of(
+                        foo("alpha", "alpha@mail.com", LocalDate.of(2024, 1, 1)),
+                        foo("beta", "beta@mail.com", LocalDate.of(2024, 1, 2)),
+                        foo("gamma", "gamma@test.org", LocalDate.of(2024, 1, 3)),
+                        foo("delta", "delta@test.org", LocalDate.of(2024, 1, 4)),
+                        foo("Alphabet", "alphabet@test.org", LocalDate.of(2024, 1, 5))
+                )))
+                .blockLast();
+    }
+
+    @Test
+    void pagesEntitiesWithTheirTotal() {
+        var first = service.page(null, PageRequest.of(0, 2, Sort.by("name")), null).block();
+        assertThat(names(first)).containsExactly("Alphabet", "alpha");
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getTotalPages()).isEqualTo(3);
+
+        var last = service.page(null, PageRequest.of(2, 2, Sort.by("name")), null).block();
+        assertThat(names(last)).containsExactly("gamma");
+        assertThat(last.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    void searchesStringPropertiesIgnoringCase() {
+        var page = service.page("ALPHA", PageRequest.of(0, 10, Sort.by("name")), null).block();
+        assertThat(names(page)).containsExactly("Alphabet", "alpha");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+
+        var byEmail = service.page("test.org", PageRequest.of(0, 2, Sort.by("name")), null).block();
+        assertThat(names(byEmail)).containsExactly("Alphabet", "delta");
+        assertThat(byEmail.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void filtersWithRsqlQueries() {
+        var query = PARSER.parse("date=ge=2024-01-03");
+        var page = service.page(null, PageRequest.of(0, 10, Sort.by("date")), query).block();
+        assertThat(names(page)).containsExactly("gamma", "delta", "Alphabet");
+
+        var searched = service.page("a", PageRequest.of(0, 10, Sort.by("date")), PARSER.parse("email==*@test.org")).block();
+        assertThat(names(searched)).containsExactly("gamma", "delta", "Alphabet");
+    }
+
+    @Test
+    void countsMatchingEntities() {
+        assertThat(service.count(null, null).block()).isEqualTo(5);
+        assertThat(service.count("alpha", null).block()).isEqualTo(2);
+        assertThat(service.count(null, PARSER.parse("name==*ta")).block()).isEqualTo(2);
+        assertThat(service.count("beta", PARSER.parse("date=lt=2024-01-02")).block()).isZero();
+    }
+
+    @Test
+    void derivesTheTotalWithoutCountingWhenThePageIsNotFull() {
+        var counted = new AtomicBoolean();
+        var count = Mono.fromCallable(() -> {
+            counted.set(true);
+            return 100L;
+        });
+
+        var first = ReactivePages.of(Flux.just("a", "b"), PageRequest.of(0, 5), count).block();
+        assertThat(first.getTotalElements()).isEqualTo(2);
+
+        var last = ReactivePages.of(Flux.just("a"), PageRequest.of(3, 5), count).block();
+        assertThat(last.getTotalElements()).isEqualTo(16);
+
+        var unpaged = ReactivePages.of(Flux.just("a", "b", "c"), Pageable.unpaged(), count).block();
+        assertThat(unpaged.getTotalElements()).isEqualTo(3);
+
+        assertThat(counted).isFalse();
+    }
+
+    @Test
+    void countsWhenTheTotalCannotBeDerived() {
+        var count = Mono.just(100L);
+
+        var full = ReactivePages.of(Flux.just("a", "b"), PageRequest.of(0, 2), count).block();
+        assertThat(full.getTotalElements()).isEqualTo(100);
+
+        var empty = ReactivePages.of(Flux.<String>empty(), PageRequest.of(3, 2), count).block();
+        assertThat(empty.getTotalElements()).isEqualTo(100);
+    }
+
+    private static List<String> names(Page<Foo> page) {
+        return page.map(Foo::getName).getContent();
+    }
+
+    private static Foo foo(String name, String email, LocalDate date) {
+        var foo = new Foo();
+        foo.setName(name);
+        foo.setEmail(email);
+        foo.setDate(date);
+        return foo;
+    }
+}
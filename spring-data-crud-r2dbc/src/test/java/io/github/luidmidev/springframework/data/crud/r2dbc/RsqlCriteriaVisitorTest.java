@@ -0,0 +1,106 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.CriteriaDefinition.Comparator;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RsqlCriteriaVisitorTest {
+
+    private static final RSQLParser PARSER = new RSQLParser();
+
+    private final RsqlCriteriaVisitor visitor = new RsqlCriteriaVisitor(new R2dbcMappingContext().getRequiredPersistentEntity(Item.class));
+
+    @Test
+    void translatesComparisonOperators() {
+        assertComparison("name==foo", "name", Comparator.EQ, "foo");
+        assertComparison("name!=foo", "name", Comparator.NEQ, "foo");
+        assertComparison("age=gt=1", "age", Comparator.GT, 1);
+        assertComparison("age=ge=1", "age", Comparator.GTE, 1);
+        assertComparison("age=lt=1", "age", Comparator.LT, 1);
+        assertComparison("age=le=1", "age", Comparator.LTE, 1);
+        assertComparison("age=in=(1,2)", "age", Comparator.IN, List.of(1, 2));
+        assertComparison("age=out=(1,2)", "age", Comparator.NOT_IN, List.of(1, 2));
+    }
+
+    @Test
+    void translatesWildcardsOnStringsToEscapedLikePatterns() {
+        assertComparison("name==a_b%c*", "name", Comparator.LIKE, "a\\_b\\%c%");
+        assertComparison("name!=*foo", "name", Comparator.NOT_LIKE, "%foo");
+    }
+
+    @Test
+    void comparesWildcardsLiterallyOnNonStringProperties() {
+        assertThatThrownBy(() -> translate("age==1*")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void convertsArgumentsToThePropertyType() {
+        assertComparison("date==2024-02-29", "date", Comparator.EQ, LocalDate.of(2024, 2, 29));
+        assertComparison("status==ACTIVE", "status", Comparator.EQ, Status.ACTIVE);
+        assertComparison("active==true", "active", Comparator.EQ, true);
+    }
+
+    @Test
+    void combinesLogicalOperators() {
+        assertThat(translate("name==foo;age=gt=1")).hasToString("(name = 'foo' AND age > 1)");
+        assertThat(translate("name==foo,age=gt=1")).hasToString("(name = 'foo' OR (age > 1))");
+    }
+
+    @Test
+    void keepsThePrecedenceOfNestedDisjunctions() {
+        assertThat(translate("(name==a,name==b);age=gt=1")).hasToString("((name = 'a' OR (name = 'b')) AND age > 1)");
+        assertThat(translate("name==a,(name==b;age=gt=1)")).hasToString("(name = 'a' OR ((name = 'b' AND age > 1)))");
+    }
+
+    @Test
+    void rejectsUnknownFieldsAndInvalidValues() {
+        assertThatThrownBy(() -> translate("password==x"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown field 'password'");
+        assertThatThrownBy(() -> translate("age==abc"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid value 'abc'");
+        assertThatThrownBy(() -> translate("date==yesterday")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Criteria translate(String query) {
+        return PARSER.parse(query).accept(visitor);
+    }
+
+    private void assertComparison(String query, String column, Comparator comparator, Object value) {
+        var criteria = translate(query);
+        assertThat(criteria.getColumn().getReference()).isEqualTo(column);
+        assertThat(criteria.getComparator()).isEqualTo(comparator);
+        assertThat(criteria.getValue()).isEqualTo(value);
+    }
+
+    enum Status {
+        ACTIVE,
+        INACTIVE
+    }
+
+    static class Item {
+
+        @Id
+        Long id;
+
+        String name;
+
+        int age;
+
+        boolean active;
+
+        LocalDate date;
+
+        Status status;
+    }
+}
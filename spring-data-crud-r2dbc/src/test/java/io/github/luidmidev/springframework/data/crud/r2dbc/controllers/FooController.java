@@ -0,0 +1,20 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.controllers;
+
+import io.github.luidmidev.springframework.data.crud.r2dbc.dto.FooDto;
+import io.github.luidmidev.springframework.data.crud.r2dbc.models.Foo;
+import io.github.luidmidev.springframework.data.crud.r2dbc.services.FooService;
+import io.github.luidmidev.springframework.data.crud.r2dbc.web.controllers.ReactiveCrudController;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Getter
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/foos")
+public class FooController implements ReactiveCrudController<Foo, FooDto, Long, FooService> {
+
+    private final FooService service;
+
+}
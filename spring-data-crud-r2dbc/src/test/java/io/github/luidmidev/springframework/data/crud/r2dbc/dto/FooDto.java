@@ -0,0 +1,22 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDate;
+
+@Data
+public class FooDto {
+
+    @NotNull
+    @NotEmpty
+    private String name;
+
+    private String description;
+
+    private String email;
+
+    private LocalDate date;
+
+}
@@ -0,0 +1,28 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.models;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+@Data
+@Table("foo")
+public class Foo implements Persistable<Long> {
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private String email;
+
+    private LocalDate date;
+
+    @Override
+    public boolean isNew() {
+        return id == null;
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.repositories;
+
+import io.github.luidmidev.springframework.data.crud.r2dbc.models.Foo;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+public interface FooRepository extends R2dbcRepository<Foo, Long> {
+}
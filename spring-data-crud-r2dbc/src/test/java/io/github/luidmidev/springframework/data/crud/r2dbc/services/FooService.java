@@ -0,0 +1,34 @@
+package io.github.luidmidev.springframework.data.crud.r2dbc.services;
+
+import io.github.luidmidev.springframework.data.crud.r2dbc.R2dbcCrudService;
+import io.github.luidmidev.springframework.data.crud.r2dbc.dto.FooDto;
+import io.github.luidmidev.springframework.data.crud.r2dbc.models.Foo;
+import io.github.luidmidev.springframework.data.crud.r2dbc.repositories.FooRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+@Service
+@Getter
+@RequiredArgsConstructor
+public class FooService implements R2dbcCrudService<Foo, FooDto, Long, FooRepository> {
+
+    private final FooRepository repository;
+    private final R2dbcEntityOperations entityOperations;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public void mapModel(FooDto dto, Foo model) {
+        model.setName(dto.getName());
+        model.setDescription(dto.getDescription());
+        model.setEmail(dto.getEmail());
+        model.setDate(dto.getDate());
+    }
+
+    @Override
+    public Class<Foo> getEntityClass() {
+        return Foo.class;
+    }
+}
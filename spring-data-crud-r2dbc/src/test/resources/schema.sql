@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS foo
+(
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    email       VARCHAR(255),
+    date        DATE         NOT NULL
+);